@@ -0,0 +1,175 @@
+import java.util.function.IntSupplier;
+
+/**
+ * Workloads measured by the JMH benchmarks in the benchmarks package.
+ * JMH only accepts benchmark classes in a named package, and code in a named package
+ * cannot refer to the engine's classes in the unnamed package, so each workload is
+ * built here and handed to the benchmark as an IntSupplier (see benchmarks.Workload).
+ * Every workload returns an int derived from its result so the JIT cannot discard it.
+ */
+public final class Workloads {
+    private static final int POOL_SIZE = 1024;
+
+    private Workloads(){}
+
+    /**
+     * Build a workload.
+     * @param name - ["fitness"|"mutation"|"crossover"|"velocity"|"position"|"neighbour"|"execute"].
+     * @param argument - mutation method, crossover method or configuration file name where needed.
+     * @return IntSupplier - runs one operation per call.
+     */
+    public static IntSupplier create(String name, String argument){
+        RandomStreams.reseed(Configuration.MASTER_SEED);
+        switch(name){
+            case "fitness":
+                return fitness();
+            case "mutation":
+                return mutation(argument);
+            case "crossover":
+                return crossover(argument);
+            case "velocity":
+                return velocity(argument);
+            case "position":
+                return position(argument);
+            case "neighbour":
+                return neighbour(argument);
+            case "execute":
+                return execute(argument);
+            default:
+                throw new IllegalArgumentException("Unknown workload " + name);
+        }
+    }
+
+    /**
+     * Random valid chromosomes to cycle through so no single genome stays hot in cache.
+     */
+    private static Chromosome[] chromosomePool(){
+        Chromosome[] pool = new Chromosome[POOL_SIZE];
+        for(int i = 0; i < POOL_SIZE; i++){
+            pool[i] = new Chromosome().withRandomKnapsackItems().withFitnessCalculated();
+        }
+        return pool;
+    }
+
+    private static IntSupplier fitness(){
+        Chromosome[] pool = chromosomePool();
+        int[] next = new int[1];
+        return () -> pool[next[0]++ & (POOL_SIZE - 1)].calculateFitness();
+    }
+
+    private static IntSupplier mutation(String mutationMethod){
+        Chromosome[] pool = chromosomePool();
+        int[] next = new int[1];
+        switch(mutationMethod){
+            case "BFM":
+                return () -> pool[next[0]++ & (POOL_SIZE - 1)].doBitFlipMutation() ? 1 : 0;
+            case "IVM":
+                return () -> pool[next[0]++ & (POOL_SIZE - 1)].doInversionMutation() ? 1 : 0;
+            case "ISM":
+                return () -> pool[next[0]++ & (POOL_SIZE - 1)].doInsertionMutation() ? 1 : 0;
+            case "DPM":
+                return () -> pool[next[0]++ & (POOL_SIZE - 1)].doDisplacementMutation() ? 1 : 0;
+            case "EXM":
+                return () -> pool[next[0]++ & (POOL_SIZE - 1)].doExchangeMutation() ? 1 : 0;
+            default:
+                throw new IllegalArgumentException("Unknown mutation method " + mutationMethod);
+        }
+    }
+
+    private static IntSupplier crossover(String crossoverMethod){
+        Chromosome[] pool = chromosomePool();
+        Chromosome child1 = new Chromosome(pool[0]);
+        Chromosome child2 = new Chromosome(pool[0]);
+        int[] next = new int[1];
+        return () -> {
+            int i = next[0]++ & (POOL_SIZE - 1);
+            Chromosome parent1 = pool[i];
+            Chromosome parent2 = pool[(i + POOL_SIZE / 2) & (POOL_SIZE - 1)];
+            parent1.doCrossover(parent2, crossoverMethod, child1, child2);
+            return child1.getFitness() + child2.getFitness();
+        };
+    }
+
+    /**
+     * A swarm after one iteration, so its personal and global bests are set.
+     * The particles are cycled through one at a time.
+     */
+    private static Swarm swarm(String fileName){
+        Swarm swarm = new Swarm(new SwarmConfiguration(fileName));
+        swarm.execute();
+        return swarm;
+    }
+
+    private static IntSupplier velocity(String fileName){
+        Swarm swarm = swarm(fileName);
+        int numParticles = new SwarmConfiguration(fileName).getNumParticles();
+        int[] next = new int[1];
+        return () -> {
+            int particle = next[0]++ % numParticles;
+            swarm.updateVelocity(particle);
+            return particle;
+        };
+    }
+
+    private static IntSupplier position(String fileName){
+        Swarm swarm = swarm(fileName);
+        int numParticles = new SwarmConfiguration(fileName).getNumParticles();
+        int[] next = new int[1];
+        return () -> {
+            int particle = next[0]++ % numParticles;
+            swarm.updatePosition(particle);
+            return swarm.evaluate(particle);
+        };
+    }
+
+    private static IntSupplier neighbour(String fileName){
+        SimulatedAnnealing annealing = new SimulatedAnnealing(new SimulatedAnnealingConfiguration(fileName));
+        return () -> {
+            int energy = annealing.proposeMove();
+            annealing.rejectMove();
+            return energy;
+        };
+    }
+
+    /**
+     * One call of SimulationManager.execute, i.e. one generation/iteration.
+     * The configuration is parsed once. A simulation that has finished (SA once it has cooled)
+     * is restarted from it, so the measured call never reads the configuration file.
+     */
+    private static IntSupplier execute(String fileName){
+        Configuration config = loadConfiguration(fileName);
+        SimulationManager[] simulation = {createSimulation(config)};
+        return () -> {
+            Knapsack fittest = simulation[0].execute();
+            if(fittest == null){
+                simulation[0] = createSimulation(config);
+                return 0;
+            }
+            return fittest.getFitness();
+        };
+    }
+
+    private static Configuration loadConfiguration(String fileName){
+        if(fileName.startsWith("ga"))
+            return new PopulationConfiguration(fileName);
+        if(fileName.startsWith("pso"))
+            return new SwarmConfiguration(fileName);
+        if(fileName.startsWith("sa"))
+            return new SimulatedAnnealingConfiguration(fileName);
+        if(fileName.startsWith("island"))
+            return new IslandConfiguration(fileName);
+        throw new IllegalArgumentException("Invalid configuration file name " + fileName);
+    }
+
+    private static SimulationManager createSimulation(Configuration config){
+        if(config instanceof PopulationConfiguration)
+            return new Population((PopulationConfiguration)config);
+        if(config instanceof SwarmConfiguration)
+            return new Swarm((SwarmConfiguration)config);
+        if(config instanceof SimulatedAnnealingConfiguration){
+            SimulatedAnnealingConfiguration annealingConfig = (SimulatedAnnealingConfiguration)config;
+            return annealingConfig.getReplicas() > 1 ? new ParallelTempering(annealingConfig) : new SimulatedAnnealing(annealingConfig);
+        }
+        return new IslandModel((IslandConfiguration)config);
+    }
+}
@@ -0,0 +1,32 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * SimulatedAnnealing.proposeMove followed by rejectMove, i.e. making and undoing one SA
+ * neighbour move, so the candidate does not drift between calls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnnealingBenchmark {
+    @Param({"sa_default_01.json"})
+    public String configuration;
+    private IntSupplier workload;
+
+    @Setup
+    public void setup(){
+        workload = Workload.create("neighbour", configuration);
+    }
+
+    @Benchmark
+    public int proposeMove(){
+        return workload.getAsInt();
+    }
+}
@@ -0,0 +1,31 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Chromosome.doCrossover for one and two point crossover, with and without repair, and uniform crossover.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CrossoverBenchmark {
+    @Param({"1PX", "2PX", "1PXR", "2PXR", "UX"})
+    public String crossoverMethod;
+    private IntSupplier workload;
+
+    @Setup
+    public void setup(){
+        workload = Workload.create("crossover", crossoverMethod);
+    }
+
+    @Benchmark
+    public int crossover(){
+        return workload.getAsInt();
+    }
+}
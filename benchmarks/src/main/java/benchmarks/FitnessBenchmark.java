@@ -0,0 +1,29 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Knapsack.calculateFitness on a pool of random chromosomes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FitnessBenchmark {
+    private IntSupplier workload;
+
+    @Setup
+    public void setup(){
+        workload = Workload.create("fitness", null);
+    }
+
+    @Benchmark
+    public int calculateFitness(){
+        return workload.getAsInt();
+    }
+}
@@ -0,0 +1,33 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * One full SimulationManager.execute (a generation/iteration) of GA, PSO and SA.
+ * SA uses the adaptive schedule of sa_custom_03, which never cools off, so every measured
+ * call is one annealing step rather than a restart.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GenerationBenchmark {
+    @Param({"ga_default_01.json", "ga_default_20.json", "pso_default_01.json", "pso_custom_01.json", "sa_custom_03.json"})
+    public String configuration;
+    private IntSupplier workload;
+
+    @Setup(Level.Trial)
+    public void setup(){
+        workload = Workload.create("execute", configuration);
+    }
+
+    @Benchmark
+    public int execute(){
+        return workload.getAsInt();
+    }
+}
@@ -0,0 +1,31 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Each Chromosome mutation operator, applied in place, including its validity retries.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MutationBenchmark {
+    @Param({"BFM", "IVM", "ISM", "DPM", "EXM"})
+    public String mutationMethod;
+    private IntSupplier workload;
+
+    @Setup
+    public void setup(){
+        workload = Workload.create("mutation", mutationMethod);
+    }
+
+    @Benchmark
+    public int mutate(){
+        return workload.getAsInt();
+    }
+}
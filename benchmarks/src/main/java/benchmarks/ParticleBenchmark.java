@@ -0,0 +1,38 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Swarm.updateVelocity and Swarm.updatePosition (with the fitness evaluation) for one particle at a time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParticleBenchmark {
+    @Param({"pso_default_01.json"})
+    public String configuration;
+    private IntSupplier velocity;
+    private IntSupplier position;
+
+    @Setup
+    public void setup(){
+        velocity = Workload.create("velocity", configuration);
+        position = Workload.create("position", configuration);
+    }
+
+    @Benchmark
+    public int updateVelocity(){
+        return velocity.getAsInt();
+    }
+
+    @Benchmark
+    public int updatePosition(){
+        return position.getAsInt();
+    }
+}
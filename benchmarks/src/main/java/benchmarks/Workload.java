@@ -0,0 +1,21 @@
+package benchmarks;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Loads a workload from the unnamed-package Workloads class, see Workloads for why.
+ */
+final class Workload {
+    private Workload(){}
+
+    static IntSupplier create(String name, String argument){
+        try{
+            return (IntSupplier)Class.forName("Workloads")
+                .getMethod("create", String.class, String.class)
+                .invoke(null, name, argument);
+        }
+        catch(ReflectiveOperationException e){
+            throw new IllegalStateException("Could not create workload " + name, e);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Class controlling logic for main application loop supporting
+ * Genetic Alorithms (GA), Simulated Annealing (SA), and 
+ * Particle Swarm Optimization (PSO).
+ */
+public class Application {
+    /**
+     * Process command line arguments and launch application loop.
+     * @param args 
+     *  - args[0] = "-configuration" ... run simulation for specific file type args[1]
+     *      - args[1] = [ga/sa/pso]_default_[fileNumber].json, island_[fileNumber].json or distributed_[fileNumber].json
+     *  - args[0] = "-search_best_configuration" ... run simulation for configurations of all type args[1]
+     *      - args[1] = [ga/sa/pso]
+     *  - args[0] = "-worker" ... run a worker for the distributed configuration coordinated at args[1]
+     *      - args[1] = [host]:[port] or unix:[path]
+     */
+    public static void main(String... args) {                
+        if (args.length != 2){
+            throw new IllegalArgumentException("Expected 2 arguments, but received" + args.length);
+        } 
+        else if (args[0].equals("-configuration")) {
+            runConfigurations(List.of(args[1]), List.of(Configuration.MASTER_SEED));
+        }
+        else if (args[0].equals("-search_best_configuration")){
+            searchBestConfiguration(args[1]);
+        }
+        else if (args[0].equals("-worker")){
+            DistributedWorker.run(args[1]);
+        }
+        else{
+            throw new RuntimeException("Invalid flag supplied as argument to application.");
+        }
+    }
+
+    /**
+     * Search for the best configuration for a given configuration type.
+     * Configurations are ranked on the statistics of their replicate runs.
+     */
+    private static void searchBestConfiguration(String configurationType){
+        int numIterations = 0;
+        switch(configurationType){
+            case("ga"):
+                numIterations = PopulationConfiguration.NUM_CONFIGURATIONS;
+                break;
+            case("pso"):
+                numIterations = SwarmConfiguration.NUM_CONFIGURATIONS;
+                break;
+            case("sa"):
+                numIterations = SimulatedAnnealingConfiguration.NUM_CONFIGURATIONS;
+                break;
+            default:
+                throw new RuntimeException("Invalid configuration type supplied as argument to application.");
+        }
+
+        List<String> fileNames = new ArrayList<>();
+        List<Long> seeds = new ArrayList<>();
+        for(int i = 0; i < numIterations; i++){
+            String fileNumber = (i + 1) + "";
+            if(i < 9)
+                fileNumber = "0" + fileNumber;
+            fileNames.add(configurationType + "_default_" + fileNumber + ".json");
+            seeds.add(RandomStream.seedFor(Configuration.MASTER_SEED, i));
+        }
+
+        List<ReplicationSummary> summaries = runConfigurations(fileNames, seeds);
+        Collections.sort(summaries);
+        summaries.get(0).saveJson("data/results/best_configurations/", configurationType);
+        ReplicationSummary.saveRanking(summaries, "data/results/best_configurations/" + configurationType + "_ranking.txt");
+    }
+
+    /**
+     * Run Configuration.NUM_REPLICATIONS replicates of each configuration concurrently on
+     * Configuration.BATCH_WORKERS threads. Each run has its own random stream and saves its
+     * own report as soon as it finishes. With more than one replicate, every replicate is
+     * seeded from the configuration's seed and a summary of each configuration is saved.
+     * @param fileNames - the configurations to be run.
+     * @param seeds - seed for each configuration.
+     * @return List<ReplicationSummary> - summary of the runs of each configuration.
+     */
+    private static List<ReplicationSummary> runConfigurations(List<String> fileNames, List<Long> seeds){
+        int numRuns = fileNames.size() * Configuration.NUM_REPLICATIONS;
+        ExecutorService batchPool = Executors.newFixedThreadPool(Math.min(Configuration.BATCH_WORKERS, numRuns));
+        List<List<Future<Report>>> runs = new ArrayList<>();
+        for(int i = 0; i < fileNames.size(); i++){
+            String fileName = fileNames.get(i);
+            List<Future<Report>> replicates = new ArrayList<>();
+            for(int r = 0; r < Configuration.NUM_REPLICATIONS; r++){
+                int replicate = r;
+                long seed = Configuration.NUM_REPLICATIONS == 1 ? seeds.get(i) : RandomStream.seedFor(seeds.get(i), r);
+                replicates.add(batchPool.submit(() -> buildConfiguration(fileName, seed, replicate)));
+            }
+            runs.add(replicates);
+        }
+        batchPool.shutdown();
+
+        List<ReplicationSummary> summaries = new ArrayList<>();
+        for(int i = 0; i < fileNames.size(); i++){
+            List<Report> reports = new ArrayList<>();
+            for(var run : runs.get(i)){
+                reports.add(awaitReport(run));
+            }
+            ReplicationSummary summary = new ReplicationSummary(fileNames.get(i), reports);
+            if(Configuration.NUM_REPLICATIONS > 1){
+                String fileName = fileNames.get(i);
+                String configurationType = fileName.substring(0, fileName.indexOf('_'));
+                summary.save("data/results/" + configurationType + "/summary_" + fileName.substring(0, fileName.length() - 5) + "_" + generateDateString() + ".txt");
+            }
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+
+    /**
+     * Wait for a batch run to finish.
+     * @param run - the submitted run.
+     * @return report - the report generated by the run.
+     */
+    private static Report awaitReport(Future<Report> run){
+        try{
+            return run.get();
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for configuration run.", e);
+        }
+        catch(ExecutionException e){
+            throw new RuntimeException("Configuration run failed.", e.getCause());
+        }
+    }
+
+    /**
+     * Builds a configuration for a specified file name, runs it, and saves it.
+     * @param fileName - the configuration to be run.
+     * @param seed - seed for the run's random stream.
+     * @param replicate - index of the replicate run, used to name its report.
+     * @return report - the report that is generated.
+     */
+    private static Report buildConfiguration(String fileName, long seed, int replicate){
+        //Seed before the simulation manager is built so that initialization is reproducible too.
+        RandomStreams.reseed(seed);
+        Configuration config;
+        SimulationManager simulationManager;
+        String configurationType;
+        if(fileName.matches("^ga.*")){
+            config = new PopulationConfiguration(fileName);
+            simulationManager = new Population((PopulationConfiguration)config);
+            configurationType = "ga";
+        }
+        else if(fileName.matches("^pso.*")){
+            config = new SwarmConfiguration(fileName);
+            simulationManager = new Swarm((SwarmConfiguration)config);
+            configurationType = "pso";
+        }
+        else if(fileName.matches("^sa.*")){
+            config = new SimulatedAnnealingConfiguration(fileName);
+            SimulatedAnnealingConfiguration annealingConfig = (SimulatedAnnealingConfiguration)config;
+            simulationManager = annealingConfig.getReplicas() > 1 ? new ParallelTempering(annealingConfig) : new SimulatedAnnealing(annealingConfig);
+            configurationType = "sa";
+        }
+        else if(fileName.matches("^island.*")){
+            config = new IslandConfiguration(fileName);
+            simulationManager = new IslandModel((IslandConfiguration)config);
+            configurationType = "island";
+        }
+        else if(fileName.matches("^distributed.*")){
+            config = new DistributedConfiguration(fileName);
+            simulationManager = new DistributedCoordinator((DistributedConfiguration)config);
+            configurationType = "distributed";
+        }
+        else{
+            throw new RuntimeException("Invalid configuration file name supplied.");
+        }
+
+        String replicateSuffix = Configuration.NUM_REPLICATIONS > 1 ? "_r" + (replicate + 1) : "";
+        String saveFilePath = "data/results/" + configurationType + "/report_" + fileName.substring(0, fileName.length() - 5) + replicateSuffix + "_" + generateDateString() + ".txt";
+        Report report = runConfiguration(fileName, config, simulationManager, seed, saveFilePath);
+        report.save();
+        return report;
+    }
+
+    /**
+     * Runs a specific configuration and generates the report.
+     * @param fileName - the filename of the configuration to be run.
+     * @param config - the configuration to be run.
+     * @param simulationManager - the simulation manager.
+     * @param seed - seed the run was started with.
+     * @param saveFilePath - where the report is streamed to.
+     * @return report - generated report.
+     */
+    private static Report runConfiguration(String fileName, Configuration config, SimulationManager simulationManager, long seed, String saveFilePath){
+        Report report = new Report(fileName, config, seed, saveFilePath);
+        long startTime = System.currentTimeMillis();
+
+        for(int i = 0; i < Configuration.MAX_ITERATIONS; i++){
+            Knapsack fittestKnapsack = simulationManager.execute();
+            if(fittestKnapsack == null)
+                break;
+            report.addIteration(fittestKnapsack);
+            if(i % 100 == 0)
+                System.out.println(fileName + " " + simulationManager.getSummaryStats());
+        }
+
+        long completeTime = System.currentTimeMillis() - startTime;
+        report.setCompleteTime(completeTime);
+
+        return report;
+    }
+
+    /**
+     * Generate date string in format yyyymmdd
+     * @return String - date string
+     */
+    private static String generateDateString(){
+        Date date = new Date();
+        LocalDate localDate = date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+        int year  = localDate.getYear();
+        int month = localDate.getMonthValue();
+        int day   = localDate.getDayOfMonth();
+        return "" + year + month + day;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,181 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Statistics over the independent replicate runs (one per seed) of a single configuration.
+ * Used to rank configurations on their typical result rather than on one noisy run.
+ */
+public class ReplicationSummary implements Comparable<ReplicationSummary>{
+    private String fileName;
+    private List<Report> reports;
+    private int[] sortedBestFitness;
+    private double mean;
+    private double standardDeviation;
+    private int numTargetReached;
+    private double meanTargetIteration;
+    private double meanTargetTime;
+
+    /**
+     * Constructor. Computes the summary statistics.
+     * @param fileName - of config.
+     * @param reports - one report per replicate.
+     */
+    public ReplicationSummary(String fileName, List<Report> reports){
+        this.fileName = fileName;
+        this.reports = reports;
+        this.sortedBestFitness = reports.stream().mapToInt(Report::getBestFitness).sorted().toArray();
+        this.mean = Arrays.stream(this.sortedBestFitness).average().orElse(0);
+
+        double squaredError = Arrays.stream(this.sortedBestFitness).mapToDouble(f -> (f - this.mean) * (f - this.mean)).sum();
+        this.standardDeviation = this.sortedBestFitness.length > 1 ? Math.sqrt(squaredError / (this.sortedBestFitness.length - 1)) : 0;
+
+        this.numTargetReached = (int)reports.stream().filter(r -> r.getTargetIteration() > 0).count();
+        this.meanTargetIteration = reports.stream().filter(r -> r.getTargetIteration() > 0).mapToInt(Report::getTargetIteration).average().orElse(Double.NaN);
+        this.meanTargetTime = reports.stream().filter(r -> r.getTargetIteration() > 0).mapToLong(Report::getTargetTime).average().orElse(Double.NaN);
+    }
+
+    /**
+     * Percentile of the best fitness values, linearly interpolated between replicates.
+     * @param percentile - in [0, 100].
+     * @return double - the percentile value.
+     */
+    public double getPercentile(double percentile){
+        double rank = percentile / 100 * (this.sortedBestFitness.length - 1);
+        int lower = (int)Math.floor(rank);
+        int upper = (int)Math.ceil(rank);
+        return this.sortedBestFitness[lower] + (rank - lower) * (this.sortedBestFitness[upper] - this.sortedBestFitness[lower]);
+    }
+
+    /**
+     * Rank by mean best fitness, then median, then how often and how quickly the target was reached.
+     */
+    @Override
+    public int compareTo(ReplicationSummary other){
+        int comparison = Double.compare(other.mean, this.mean);
+        if(comparison == 0)
+            comparison = Double.compare(other.getMedian(), this.getMedian());
+        if(comparison == 0)
+            comparison = Integer.compare(other.numTargetReached, this.numTargetReached);
+        if(comparison == 0 && this.numTargetReached > 0)
+            comparison = Double.compare(this.meanTargetIteration, other.meanTargetIteration);
+        return comparison;
+    }
+
+    /**
+     * Generate the summary for this configuration.
+     * @return String - summary.
+     */
+    public String toSummaryString(){
+        StringBuilder summary = new StringBuilder("Replication Summary | " + new Date() + "\n");
+        summary.append("Configuration: " + this.fileName + "\n");
+        summary.append("               " + this.reports.get(0).getConfig().toString() + "\n");
+        summary.append("Replications: " + this.reports.size() + "\n");
+        summary.append("=".repeat(100) + "\n");
+        summary.append("bValue" + " ".repeat(5) + String.format("mean %.2f | stddev %.2f | min %d | p10 %.1f | p25 %.1f | median %.1f | p75 %.1f | p90 %.1f | max %d",
+            this.mean, this.standardDeviation, this.sortedBestFitness[0], getPercentile(10), getPercentile(25),
+            getMedian(), getPercentile(75), getPercentile(90), this.sortedBestFitness[this.sortedBestFitness.length - 1]) + "\n");
+        summary.append("Target" + " ".repeat(5) + Configuration.TARGET_FITNESS + " reached " + this.numTargetReached + "/" + this.reports.size());
+        if(this.numTargetReached > 0)
+            summary.append(String.format(" | mean iterations %.1f | mean time %.1fms", this.meanTargetIteration, this.meanTargetTime));
+        summary.append("\n");
+        summary.append("-".repeat(100) + "\n");
+        summary.append("Seed" + " ".repeat(18) + "bValue" + " ".repeat(5) + "Target" + " ".repeat(5) + "Runtime\n");
+        for(Report report : this.reports){
+            summary.append(String.format("%-22s%-11s%-11s%s", report.getSeed(), report.getBestFitness(),
+                report.getTargetIteration() > 0 ? report.getTargetIteration() : "-", report.getCompleteTime() + "ms") + "\n");
+        }
+        summary.append("=".repeat(100) + "\n");
+        return summary.toString();
+    }
+
+    /**
+     * Write the summary to a file.
+     * @param saveFilePath - where it should be saved to.
+     */
+    public void save(String saveFilePath){
+        writeFile(saveFilePath, toSummaryString());
+    }
+
+    /**
+     * Save the configuration file of the replicate with the fittest knapsack.
+     * @param saveFilePath - path for the file to be saved to
+     * @param configurationType - ["ga"|"sa"|"pso"]
+     */
+    public void saveJson(String saveFilePath, String configurationType){
+        Collections.min(this.reports).saveJson(saveFilePath, configurationType);
+    }
+
+    /**
+     * Write a ranking of configurations, assumed to be sorted best first, to a file.
+     * @param summaries - sorted summaries.
+     * @param saveFilePath - where it should be saved to.
+     */
+    public static void saveRanking(List<ReplicationSummary> summaries, String saveFilePath){
+        StringBuilder ranking = new StringBuilder("Ranking | " + new Date() + "\n");
+        ranking.append("Replications: " + Configuration.NUM_REPLICATIONS + " | Target: " + Configuration.TARGET_FITNESS + "\n");
+        ranking.append("=".repeat(100) + "\n");
+        ranking.append(String.format("%-6s%-25s%-10s%-10s%-10s%-10s%-10s%-10s%s", "#", "Configuration", "Mean", "StdDev", "P10", "Median", "P90", "Target", "Iterations") + "\n");
+        ranking.append("-".repeat(100) + "\n");
+        for(int i = 0; i < summaries.size(); i++){
+            ReplicationSummary summary = summaries.get(i);
+            ranking.append(String.format("%-6s%-25s%-10.2f%-10.2f%-10.1f%-10.1f%-10.1f%-10s%s", i + 1, summary.fileName,
+                summary.mean, summary.standardDeviation, summary.getPercentile(10), summary.getMedian(), summary.getPercentile(90),
+                summary.numTargetReached + "/" + summary.reports.size(),
+                summary.numTargetReached > 0 ? String.format("%.1f", summary.meanTargetIteration) : "-") + "\n");
+        }
+        ranking.append("=".repeat(100) + "\n");
+        System.out.print(ranking);
+        writeFile(saveFilePath, ranking.toString());
+    }
+
+    /**
+     * Write text to a file, creating its directory if needed.
+     */
+    private static void writeFile(String saveFilePath, String text){
+        try{
+            Files.createDirectories(Paths.get(saveFilePath).getParent());
+            Files.writeString(Paths.get(saveFilePath), text);
+        }
+        catch(IOException e){
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /////////////////////////////
+    //// Getters and Setters ////
+    /////////////////////////////
+
+    public String getFileName(){
+        return this.fileName;
+    }
+
+    public double getMean(){
+        return this.mean;
+    }
+
+    public double getMedian(){
+        return getPercentile(50);
+    }
+
+    public double getStandardDeviation(){
+        return this.standardDeviation;
+    }
+
+    public int getNumTargetReached(){
+        return this.numTargetReached;
+    }
+
+    public double getMeanTargetIteration(){
+        return this.meanTargetIteration;
+    }
+
+    public double getMeanTargetTime(){
+        return this.meanTargetTime;
+    }
+}
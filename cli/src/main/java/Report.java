@@ -0,0 +1,325 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * Class used to generate a report for a given simulation and write it to a file.
+ * The report is streamed: the header is written when the report is created and each
+ * iteration's line as soon as it is added, through a buffered writer. Only a summary of the
+ * run is kept in memory. The quartile rows are answered from the iterations at which the
+ * best weight or fitness changed, and the longest plateau is tracked as iterations arrive.
+ */
+public class Report implements Comparable<Report>{
+    private static final int INITIAL_CHANGES = 64;
+
+    private String fileName;
+    private Configuration config;
+    private long seed;
+    private BufferedWriter writer;
+    private final DecimalFormat qualityFormat = new DecimalFormat("#.##");
+    private int iterations;
+    private int bestFitness;
+    private long completeTime;
+    private final long startTime;
+    private int targetIteration = -1;
+    private long targetTime = -1;
+
+    //Iterations (0 based) at which the best weight or fitness changed, with the new values.
+    private int[] changeIterations = new int[INITIAL_CHANGES];
+    private int[] changeWeights = new int[INITIAL_CHANGES];
+    private int[] changeFitness = new int[INITIAL_CHANGES];
+    private int numChanges;
+
+    //Longest run of iterations with the same fitness, [longestStart, longestEnd).
+    private int plateauStart, longestStart, longestEnd, lastFitness;
+
+    /**
+     * Constructor. Creates the report file and writes the header.
+     * @param fileName - of config.
+     * @param config - for simulation.
+     * @param seed - random seed the simulation was run with.
+     * @param saveFilePath - where the report is written to.
+     */
+    public Report(String fileName, Configuration config, long seed, String saveFilePath) {
+        this.fileName = fileName;
+        this.config = config;
+        this.seed = seed;
+        try{
+            Files.createDirectories(Paths.get(saveFilePath).getParent());
+            this.writer = Files.newBufferedWriter(Paths.get(saveFilePath));
+            this.writer.write(generateReportHeader());
+        }
+        catch(IOException e){
+            e.printStackTrace();
+            System.exit(1);
+        }
+        this.startTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Write the line for a new knapsack and update the best fitness value, the
+     * convergence changes and the plateau.
+     * Note best fitness won't necessarily be the newest knapsack if elitism ratio is 0 (for GA).
+     * Also records when Configuration.TARGET_FITNESS is first reached.
+     * Only primitives are kept, simulations reuse their knapsacks in later iterations.
+     * @param bestKnapsack - for the current iteration.
+     */
+    public void addIteration(Knapsack bestKnapsack){
+        int iteration = this.iterations++;
+        int weight = bestKnapsack.calculateWeight();
+        int fitness = bestKnapsack.calculateFitness();
+        this.bestFitness = bestKnapsack.getFitness() > this.bestFitness ? bestKnapsack.getFitness() : this.bestFitness;
+        if(this.targetIteration < 0 && this.bestFitness >= Configuration.TARGET_FITNESS){
+            this.targetIteration = this.iterations;
+            this.targetTime = System.currentTimeMillis() - this.startTime;
+        }
+        if(this.numChanges == 0 || this.changeWeights[this.numChanges - 1] != weight || this.changeFitness[this.numChanges - 1] != fitness)
+            addChange(iteration, weight, fitness);
+        updatePlateau(iteration, bestKnapsack.getFitness());
+
+        try{
+            writePadded(Integer.toString(this.iterations), 5);
+            this.writer.write(" ".repeat(5));
+            writeSummary(weight, fitness);
+            this.writer.write("        [");
+            Genome selection = bestKnapsack.getKnapsackSelection();
+            for(int i = 0; i < selection.size(); i++){
+                this.writer.write(selection.get(i) ? '1' : '0');
+            }
+            this.writer.write("]\n");
+        }
+        catch(IOException e){
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Generate the report header.
+     * @return String - report header
+     */
+    public String generateReportHeader() {
+        StringBuilder reportHeader = new StringBuilder("Evaluation | " + new Date() + "\n");
+        reportHeader.append("Configuration: " + this.fileName + "\n");
+        reportHeader.append("               " + this.config.toString() + "\n");
+        reportHeader.append("Seed: " + this.seed + "\n");
+        reportHeader.append("=".repeat(100) + "\n");
+        reportHeader.append("#" + " ".repeat(5) + "bWeight" + " ".repeat(5) + "bValue" + " ".repeat(5) + "sQuality" + " ".repeat(5) + "Knapsack\n");
+        reportHeader.append("-".repeat(100)+"\n");
+        return new String(reportHeader);
+    }
+
+    /**
+     * Write the statistics to the end of the report and close the file.
+     */
+    public void save(){
+        try{
+            this.writer.write(completeReport());
+            this.writer.close();
+        }
+        catch(IOException e){
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Generate the statistics at the end of the report.
+     * @return String - report statistics.
+     */
+    public String completeReport(){
+        StringBuilder reportBody = new StringBuilder();
+        reportBody.append("-".repeat(100) + "\n");
+        reportBody.append("[Statistics]\n");
+        reportBody.append("Runtime");
+        reportBody.append(" ".repeat(5));
+        reportBody.append(this.completeTime + "ms\n\n");
+        reportBody.append("Covergence" + " ".repeat(5) + "#" + " ".repeat(5) + "bWeight" + " ".repeat(5) + "bValue" + " ".repeat(5) + "sQuality" + "\n");
+
+        if(this.iterations > 4){
+            for(int i = 1; i < 5; i++){
+                int quartile = (int)Math.round(this.iterations*((double)i/4));
+                int change = changeAt(Math.max((quartile - 1),0));
+                reportBody.append(" ".repeat(14));
+                reportBody.append(String.format("%-10s", quartile));
+                reportBody.append(formatSummary(this.changeWeights[change], this.changeFitness[change]) + "\n");
+            }
+        }
+        else{
+            reportBody.append("Too few iterations for quartile data.\n");
+        }
+        
+
+        reportBody.append("Plateau | Longest sequence " + getLongestPlateau() + "\n");
+        if(this.targetIteration > 0)
+            reportBody.append("Target  | " + Configuration.TARGET_FITNESS + " reached at " + this.targetIteration + " (" + this.targetTime + "ms)\n\n");
+        else
+            reportBody.append("Target  | " + Configuration.TARGET_FITNESS + " not reached\n\n");
+        reportBody.append("=".repeat(100) + "\n");
+
+        return new String(reportBody);
+    }
+
+    /**
+     * Set the time in ms that it took to run this simulation.
+     * @param completeTime
+     */
+    public void setCompleteTime(long completeTime){
+        this.completeTime = completeTime;
+    }
+
+    /**
+     * Compare reports by fittest knapsack.
+     */
+    @Override
+    public int compareTo(Report other){
+        return Integer.compare(other.getBestFitness(), this.bestFitness);
+    }
+
+    /**
+     * Get the fittest knapsack for this report.
+     * @return
+     */
+    public int getBestFitness(){
+        return bestFitness;
+    }
+
+    public long getSeed(){
+        return this.seed;
+    }
+
+    public String getFileName(){
+        return this.fileName;
+    }
+
+    public Configuration getConfig(){
+        return this.config;
+    }
+
+    public long getCompleteTime(){
+        return this.completeTime;
+    }
+
+    /**
+     * Iteration at which Configuration.TARGET_FITNESS was first reached.
+     * @return int - 1 based iteration, -1 if the target was not reached.
+     */
+    public int getTargetIteration(){
+        return this.targetIteration;
+    }
+
+    /**
+     * Time in ms from the start of the simulation until Configuration.TARGET_FITNESS was first reached.
+     * @return long - time in ms, -1 if the target was not reached.
+     */
+    public long getTargetTime(){
+        return this.targetTime;
+    }
+
+    /**
+     * Extend the plateau tracking by one iteration, a plateau ends when the fitness changes.
+     */
+    private void updatePlateau(int iteration, int currentFitness){
+        if(this.lastFitness != currentFitness){
+            if(iteration - this.plateauStart > this.longestEnd - this.longestStart){
+                this.longestStart = this.plateauStart;
+                this.longestEnd = iteration;
+            }
+            this.plateauStart = iteration + 1;
+        }
+        this.lastFitness = currentFitness;
+    }
+
+    /**
+     * Find the longest period with no growth in KnapsackFitness.
+     * @return String - longest period in form "[start]-[end]"
+     */
+    private String getLongestPlateau(){
+        int longestStart = this.longestStart, longestEnd = this.longestEnd;
+        if(this.iterations - this.plateauStart > longestEnd - longestStart){
+            longestStart = this.plateauStart;
+            longestEnd = this.iterations;
+        }
+
+        return longestEnd - longestStart > 0 ? longestStart + "-" + longestEnd : "no plateau.";
+    }
+
+    ////////////////////////
+    //// Helper Methods ////
+    ////////////////////////
+
+    private void addChange(int iteration, int weight, int fitness){
+        if(this.numChanges == this.changeIterations.length){
+            this.changeIterations = Arrays.copyOf(this.changeIterations, 2 * this.numChanges);
+            this.changeWeights = Arrays.copyOf(this.changeWeights, 2 * this.numChanges);
+            this.changeFitness = Arrays.copyOf(this.changeFitness, 2 * this.numChanges);
+        }
+        this.changeIterations[this.numChanges] = iteration;
+        this.changeWeights[this.numChanges] = weight;
+        this.changeFitness[this.numChanges] = fitness;
+        this.numChanges++;
+    }
+
+    /**
+     * Binary search for the last change at or before an iteration.
+     * @param iteration - 0 based iteration.
+     * @return int - index of the change in effect at that iteration.
+     */
+    private int changeAt(int iteration){
+        int low = 0;
+        int high = this.numChanges - 1;
+        while(low < high){
+            int mid = (low + high + 1) >>> 1;
+            if(this.changeIterations[mid] <= iteration)
+                low = mid;
+            else
+                high = mid - 1;
+        }
+        return low;
+    }
+
+    /**
+     * Weight, fitness and solution quality columns, as in Knapsack.toReportString.
+     */
+    private String formatSummary(int weight, int fitness){
+        String quality = this.qualityFormat.format((double)fitness/Configuration.BEST_KNOWN_OPTIMUM*100) + "%";
+        return String.format("%-10s", weight) + String.format("%-10s", fitness) + String.format("%-8s", quality);
+    }
+
+    private void writeSummary(int weight, int fitness) throws IOException {
+        writePadded(Integer.toString(weight), 10);
+        writePadded(Integer.toString(fitness), 10);
+        writePadded(this.qualityFormat.format((double)fitness/Configuration.BEST_KNOWN_OPTIMUM*100) + "%", 8);
+    }
+
+    /**
+     * Write a value left aligned in a column of the given width, like String.format("%-[width]s").
+     */
+    private void writePadded(String value, int width) throws IOException {
+        this.writer.write(value);
+        for(int i = value.length(); i < width; i++){
+            this.writer.write(' ');
+        }
+    }
+
+    /**
+     * Save configuration used for this simulation.
+     * @param saveFilePath - path for the file to be saved to
+     * @param configurationType - ["ga"|"sa"|"pso"]
+     */
+    public void saveJson(String saveFilePath, String configurationType){
+        try{
+            String bestConfiguration = new String(Files.readAllBytes(Paths.get("data/configuration/" + configurationType + "/" +  this.fileName)));
+            Files.createDirectories(Paths.get(saveFilePath));
+            Files.writeString(Paths.get(saveFilePath + configurationType + "_best.json"), bestConfiguration);
+        }
+        catch(IOException e){
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,287 @@
+/**
+ * Chromosome used to represent a Knapsack for a given selection in a GA Algorithm
+ * Provides crossover and mutation operators.
+ */
+public class Chromosome extends Knapsack{
+
+    ///////////////////////////
+    ////    Constructors   ////
+    ///////////////////////////
+
+    /**
+     * Default Constructor.
+     */
+    public Chromosome(){
+        super();
+    }
+
+    /**
+     * Constructor.
+     * @param knapsackSelection - populate initial selected knapsack items
+     */
+    public Chromosome(Genome knapsackSelection) {
+        super();
+        setKnapsackSelection(knapsackSelection);
+    }
+
+    /**
+     * Copy constructor.
+     * @param chromosome - chromosome to copy.
+     */
+    public Chromosome(Chromosome chromosome){
+        super(chromosome);
+    }
+
+    /**
+     * For chaining with constructor to include a randomly
+     * selected set of knapsack items.
+     * @return Chromosome - this
+     */
+    public Chromosome withRandomKnapsackItems() {
+        setKnapsackSelection(generateRandomItems());
+        return this;
+    }
+
+    /**
+     * For chaining with constructor to include a fitness 
+     * calculation.
+     * @return Chromosome - this
+     */
+    public Chromosome withFitnessCalculated() {
+        this.fitness = calculateFitness();
+        return this;
+    }
+
+
+    ///////////////////////////
+    //// Genetic Operators ////
+    ///////////////////////////
+    
+    
+    /**
+     * Crossover Operations.
+     * The children are written into the given chromosomes, which are reused rather than allocated.
+     * @param other - the other Knapsack to perform the crossover with.
+     * @param crossoverType - one of ["1PX", "2PX", "1PXR", "2PXR", "UX"].
+     * @param child1 - overwritten with the first child.
+     * @param child2 - overwritten with the second child.
+     */
+    public void doCrossover(Chromosome other, String crossoverType, Chromosome child1, Chromosome child2){
+        switch(crossoverType){
+            case "1PX":
+            case "2PX":
+                doPointCrossover(other, crossoverType.equals("1PX"), child1, child2);
+                break;
+            case "1PXR":
+            case "2PXR":
+                doRepairPointCrossover(other, crossoverType.equals("1PXR"), child1, child2);
+                break;
+            case "UX":
+                doUniformCrossover(other, child1, child2);
+                break;
+            default:
+                throw new RuntimeException("Unknown crossover method");
+        }
+    }
+
+    /**
+     * One and Two Point Crossover.
+     * Each child is built in its own slot from one parent with the other parent's genes between
+     * the crossover points, only the copied range is re-evaluated. Overweight children are
+     * discarded and the cut points drawn again.
+     * @param onePoint - true for 1PX, false for 2PX.
+     */
+    private void doPointCrossover(Chromosome other, boolean onePoint, Chromosome child1, Chromosome child2){
+        RandomStream random = RandomStreams.current();
+        int geneSize = this.knapsackSelection.size();
+
+        int numChildren = 0;
+
+        //Allow for multiple crossover attempts to better the chance of a valid crossover.
+        //Note that this can be disabled by setting GAConfiguration.CONCEPTION_ATTEMPTS = 1.
+        for(int i = 0; i < PopulationConfiguration.CONCEPTION_ATTEMPTS; i++){
+
+            //Set first crossover point to 0 if 1PX Crossover.
+            int crossPoint1 = onePoint ? 0 : random.nextInt(geneSize);
+            int crossPoint2 = random.nextInt(geneSize - crossPoint1) + crossPoint1;
+
+            if(numChildren < 2 && (numChildren == 0 ? child1 : child2).crossFrom(this, other, crossPoint1, crossPoint2)){
+                numChildren++;
+            }
+            if(numChildren < 2 && (numChildren == 0 ? child1 : child2).crossFrom(other, this, crossPoint1, crossPoint2)){
+                numChildren++;
+            }
+            if(numChildren == 2){
+                break;
+            }
+        }
+        //If the crossover failed to generate a valid child, return the parents.
+        if(numChildren == 0){
+            child1.copyFrom(other);
+            child2.copyFrom(this);
+        }
+        else if(numChildren == 1){
+            child2.copyFrom(this);
+        }
+    }
+
+    /**
+     * One and Two Point Crossover with greedy repair.
+     * The genes between a single pair of crossover points are exchanged and overweight
+     * children are repaired by dropping their lowest value/weight items, so both children
+     * are valid after one pass.
+     * @param onePoint - true for 1PXR, false for 2PXR.
+     */
+    private void doRepairPointCrossover(Chromosome other, boolean onePoint, Chromosome child1, Chromosome child2){
+        RandomStream random = RandomStreams.current();
+        int geneSize = this.knapsackSelection.size();
+
+        int crossPoint1 = onePoint ? 0 : random.nextInt(geneSize);
+        int crossPoint2 = random.nextInt(geneSize - crossPoint1) + crossPoint1;
+
+        child1.copyFrom(this);
+        child2.copyFrom(other);
+        child1.exchangeItems(child2, crossPoint1, crossPoint2);
+        child1.repairAndEvaluate();
+        child2.repairAndEvaluate();
+    }
+
+    /**
+     * Uniform Crossover with greedy repair.
+     * Every gene is exchanged between the children with probability 1/2, then overweight
+     * children are repaired by dropping their lowest value/weight items.
+     */
+    private void doUniformCrossover(Chromosome other, Chromosome child1, Chromosome child2){
+        child1.copyFrom(this);
+        child2.copyFrom(other);
+        child1.exchangeRandomItems(child2, RandomStreams.current());
+        child1.repairAndEvaluate();
+        child2.repairAndEvaluate();
+    }
+
+    /**
+     * Repair this chromosome and update its fitness.
+     */
+    private void repairAndEvaluate(){
+        repair();
+        updateFitness();
+    }
+
+    /**
+     * Overwrite this chromosome with a parent carrying the other parent's genes in [fromIndex, toIndex).
+     * @return boolean - whether the child is valid.
+     */
+    private boolean crossFrom(Chromosome parent, Chromosome other, int fromIndex, int toIndex){
+        copyFrom(parent);
+        copyItems(other, fromIndex, toIndex);
+        updateFitness();
+        return isValid();
+    }
+
+    /**
+     * Implementation of Bit Flip Mutation.
+     * Each attempt computes the weight change of a random move first and only applies it
+     * to this chromosome, in place, if the result is valid. Up to GAConfiguration.MUTATION_ATTEMPTS
+     * moves are tried, if none is valid the chromosome is left unchanged.
+     * @return boolean - whether a valid mutation was applied.
+     */
+    public boolean doBitFlipMutation(){
+        RandomStream random = RandomStreams.current();
+        for(int i = 0; i < PopulationConfiguration.MUTATION_ATTEMPTS; i++){
+            int itemToMutate = random.nextInt(this.knapsackSelection.size());
+            if(isValidWith(flipWeightDelta(itemToMutate))){
+                flipItem(itemToMutate);
+                updateFitness();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Implementation of Exchange Mutation. 
+     * @return boolean - whether a valid mutation was applied.
+     */
+    public boolean doExchangeMutation(){
+        RandomStream random = RandomStreams.current();
+        for(int i = 0; i < PopulationConfiguration.MUTATION_ATTEMPTS; i++){
+            int allele1 = random.nextInt(this.knapsackSelection.size());
+            int allele2 = random.nextInt(this.knapsackSelection.size());
+            if(isValidWith(swapWeightDelta(allele1, allele2))){
+                swapItems(allele1, allele2);
+                updateFitness();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Implementation of Inversion Mutation. 
+     * @return boolean - whether a valid mutation was applied.
+     */
+    public boolean doInversionMutation(){
+        RandomStream random = RandomStreams.current();
+        for(int i = 0; i < PopulationConfiguration.MUTATION_ATTEMPTS; i++){
+            int allele1 = random.nextInt(this.knapsackSelection.size());
+            int allele2 = random.nextInt(this.knapsackSelection.size());
+            int leftAllele = Math.min(allele1, allele2);
+            int rightAllele = Math.max(allele1, allele2);
+            if(isValidWith(reverseWeightDelta(leftAllele, rightAllele))){
+                reverseItems(leftAllele, rightAllele);
+                updateFitness();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Implementation of Insertion Mutation. 
+     * @return boolean - whether a valid mutation was applied.
+     */
+    public boolean doInsertionMutation(){
+        RandomStream random = RandomStreams.current();
+        for(int i = 0; i < PopulationConfiguration.MUTATION_ATTEMPTS; i++){
+            int geneSize = this.knapsackSelection.size();
+
+            int allele1 = random.nextInt(geneSize);
+            int allele2 = random.nextInt(geneSize);
+
+            //Remove the gene at allele2 and re-insert it after allele1 (or at the end).
+            int insertIndex = Math.min(allele1 + 1, geneSize - 1);
+            if(isValidWith(moveWeightDelta(allele2, insertIndex))){
+                moveItem(allele2, insertIndex);
+                updateFitness();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Implementation of Displacement Mutation. 
+     * @return boolean - whether a valid mutation was applied.
+     */
+    public boolean doDisplacementMutation(){
+        RandomStream random = RandomStreams.current();
+        for(int i = 0; i < PopulationConfiguration.MUTATION_ATTEMPTS; i++){
+            int geneSize = this.knapsackSelection.size();
+
+            int allele1 = random.nextInt(geneSize);
+            int allele2 = random.nextInt(geneSize);
+
+            int leftAllele = Math.min(allele1, allele2);
+            int rightAllele = Math.max(allele1, allele2);
+
+            //Displace the block [leftAllele, rightAllele) to a random position in the remaining genes.
+            int index = random.nextInt(geneSize - (rightAllele - leftAllele) + 1);
+            if(isValidWith(displaceWeightDelta(leftAllele, rightAllele, index))){
+                displaceItems(leftAllele, rightAllele, index);
+                updateFitness();
+                return true;
+            }
+        }
+        return false;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * General configuration applicable to all algorithms.
+ */
+public abstract class Configuration {
+    public static final int MAX_CAPACITY = 822;
+    public static final String KNAPSACK_PATH = "data/knapsack/knapsack_instance.csv";
+    public static final int MAX_ITERATIONS = 10000;
+    public static final int BEST_KNOWN_OPTIMUM = 997;
+    public static final int NUM_ITEMS = 150;
+    public static final ItemCatalog ITEM_CATALOG = ItemCatalog.load(Configuration.KNAPSACK_PATH);
+    public static final long MASTER_SEED = Long.getLong("seed", System.currentTimeMillis());
+    public static final int NUM_THREADS = Integer.getInteger("threads", Runtime.getRuntime().availableProcessors());
+    public static final ForkJoinPool WORKER_POOL = new ForkJoinPool(NUM_THREADS);
+    public static final int BATCH_WORKERS = Integer.getInteger("batch_workers", NUM_THREADS);
+    public static final int NUM_REPLICATIONS = Integer.getInteger("replications", 1);
+    public static final int TARGET_FITNESS = Integer.getInteger("target", BEST_KNOWN_OPTIMUM);
+    public static final String COORDINATOR_ADDRESS = System.getProperty("address", "localhost:7077");
+    protected boolean repair;
+
+    /**
+     * Implemented by each algorithm's config child to load 
+     * the relevent JSON config.
+     * @param fileName
+     */
+    protected abstract void loadConfig(String fileName);
+
+    /**
+     * Parse a single line JSON config file into its key/value pairs.
+     * Keys are looked up by name, so optional keys can be left out of the file.
+     * @param fileName - path of the config file.
+     * @return Map<String, String> - values by key, in file order.
+     */
+    protected static Map<String, String> readJson(String fileName){
+        Map<String, String> json = new LinkedHashMap<>();
+        File file = new File(fileName);
+        try {
+            Scanner sc = new Scanner(file); 
+            String line = sc.nextLine();
+            for(String pair : line.split(",")){
+                String[] keyValue = Arrays.stream(pair.split(":"))
+                    .map(n -> n.replaceAll("[^a-zA-Z0-9_.]", ""))
+                    .toArray(String[]::new);
+                json.put(keyValue[0], keyValue[1]);
+            }
+            sc.close();
+        } 
+        catch(IOException e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+        return json;
+    }
+
+    /**
+     * Whether candidates are repaired and greedily improved after every move, see Knapsack.repairAndImprove.
+     * Set by the optional "repair" key, off by default.
+     */
+    public boolean isRepairEnabled(){
+        return this.repair;
+    }
+
+    @Override
+    public abstract String toString();
+
+    public abstract int getNumConfigurations();
+}
@@ -0,0 +1,88 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Config specific to the distributed island model.
+ * Each worker runs the GA or PSO configuration listed under its key, "worker_1", "worker_2", ...
+ */
+public class DistributedConfiguration extends Configuration {
+    public static final String DISTRIBUTED_PATH = "data/configuration/distributed/";
+    public static final int NUM_CONFIGURATIONS = 0;
+    private List<String> workers;
+    private int migrationInterval;
+    private int migrants;
+    private String topology;
+
+    /**
+     * Constructor
+     * @param fileName - containing config data
+     */
+    public DistributedConfiguration(String fileName){
+        super();
+        loadConfig(fileName);
+    }
+
+    /**
+     * String representation of configuration for report.
+     */
+    public String toString(){
+        return "Distributed" + " | #" + Configuration.MAX_ITERATIONS + " | " + this.workers.size() + " workers"
+            + " | " + "topology: " + this.topology + " | " + "migration_interval: " + this.migrationInterval
+            + " | " + "migrants: " + this.migrants + " | " + String.join(" ", this.workers);
+    }
+
+    /**
+     * Parse the JSON file and load the necessary config data
+     * @param fileName - containing config data
+     */
+    @Override
+    protected void loadConfig(String fileName){
+        Map<String, String> json = readJson(DISTRIBUTED_PATH + fileName);
+        this.workers = new ArrayList<>();
+        for(var entry : json.entrySet()){
+            if(entry.getKey().startsWith("worker_"))
+                this.workers.add(entry.getValue());
+        }
+        if(this.workers.isEmpty())
+            throw new RuntimeException("Unknown workers");
+        this.migrationInterval = Integer.parseInt(json.get("migration_interval"));
+        this.migrants = Math.max(1, Integer.parseInt(json.get("migrants")));
+        this.topology = json.getOrDefault("topology", "ring");
+    }
+
+    /**
+     * GA or PSO configuration file name of each worker's island.
+     */
+    public List<String> getWorkers() {
+        return this.workers;
+    }
+
+    /**
+     * Iterations each worker runs between migrations.
+     */
+    public int getMigrationInterval() {
+        return this.migrationInterval;
+    }
+
+    /**
+     * Number of its best knapsacks a worker reports, at least 1 since the coordinator
+     * takes the worker's best from them.
+     */
+    public int getMigrants() {
+        return this.migrants;
+    }
+
+    /**
+     * Migration topology, set by the optional "topology" key.
+     * @return String - one of ["ring", "full", "random"], ring by default.
+     */
+    public String getTopology() {
+        return this.topology;
+    }
+
+    public int getNumConfigurations(){
+        return DistributedConfiguration.NUM_CONFIGURATIONS;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+
+/**
+ * Distributed island model Simulation Manager, the coordinator side.
+ * Listens on Configuration.COORDINATOR_ADDRESS (-Daddress, host:port or unix:path) until one
+ * DistributedWorker per configured island has connected, and assigns each its GA or PSO
+ * configuration and a seed drawn from this simulation's seed.
+ * Each iteration, every worker absorbs its immigrants and runs migration_interval iterations of
+ * its island in its own process, then reports copies of its best knapsacks. The coordinator routes
+ * them to their destinations under the topology, to be sent with the next iteration's command.
+ * Workers are commanded and read in a fixed order, so a seeded run does not depend on the
+ * timing of the processes. The workers are stopped once Configuration.MAX_ITERATIONS
+ * iterations have been run.
+ */
+public class DistributedCoordinator extends SimulationManager{
+    private final DistributedConfiguration config;
+    private final MigrationChannel[] workers;
+    private final List<List<Knapsack>> immigrants;
+    private final int[] bestFitness;
+    private Knapsack fittest;
+    private int iteration;
+
+    /**
+     * Constructor.
+     * Wait for every worker to connect and assign it its island.
+     * @param config - distributed configuration.
+     */
+    public DistributedCoordinator(DistributedConfiguration config) {
+        super();
+        this.config = config;
+        int numWorkers = config.getWorkers().size();
+        this.workers = new MigrationChannel[numWorkers];
+        this.immigrants = new ArrayList<>();
+        this.bestFitness = new int[numWorkers];
+
+        SocketAddress address = MigrationChannel.parseAddress(Configuration.COORDINATOR_ADDRESS);
+        try{
+            boolean unix = address instanceof UnixDomainSocketAddress;
+            if(unix)
+                Files.deleteIfExists(((UnixDomainSocketAddress)address).getPath());
+            try(ServerSocketChannel server = unix ? ServerSocketChannel.open(StandardProtocolFamily.UNIX) : ServerSocketChannel.open()){
+                server.bind(address);
+                System.out.println("Waiting for " + numWorkers + " workers on " + Configuration.COORDINATOR_ADDRESS);
+                for(int worker = 0; worker < numWorkers; worker++){
+                    this.workers[worker] = new MigrationChannel(server.accept());
+                    this.workers[worker].sendAssign(RandomStream.seedFor(this.seed, worker), config.getMigrants(), config.getWorkers().get(worker));
+                    this.immigrants.add(new ArrayList<>());
+                }
+            }
+            if(unix)
+                Files.deleteIfExists(((UnixDomainSocketAddress)address).getPath());
+        }
+        catch(IOException e){
+            throw new RuntimeException("Could not start the coordinator on " + Configuration.COORDINATOR_ADDRESS, e);
+        }
+    }
+
+    /**
+     * Execute an iteration of the distributed island model: one migration interval on every worker.
+     * @return Knapsack - the best knapsack reported by any worker, null once the run is over.
+     */
+    public Knapsack execute(){
+        if(this.iteration >= Configuration.MAX_ITERATIONS)
+            return null;
+        int iterations = Math.min(this.config.getMigrationInterval(), Configuration.MAX_ITERATIONS - this.iteration);
+
+        try{
+            //1. Every worker absorbs its immigrants and runs its island, the workers run concurrently
+            for(int worker = 0; worker < this.workers.length; worker++){
+                List<Knapsack> immigrants = this.immigrants.get(worker);
+                this.workers[worker].sendRun(iterations, immigrants.toArray(new Knapsack[0]));
+                immigrants.clear();
+            }
+
+            //2. Collect the reports in worker order and route the emigrants
+            RandomStream random = this.config.getTopology().equals("random") ? serialStream() : null;
+            this.fittest = null;
+            for(int worker = 0; worker < this.workers.length; worker++){
+                this.workers[worker].readFrame(MigrationChannel.REPORT);
+                Knapsack[] emigrants = this.workers[worker].getGenomes();
+                this.bestFitness[worker] = 0;
+                for(Knapsack emigrant : emigrants){
+                    this.bestFitness[worker] = Math.max(this.bestFitness[worker], emigrant.getFitness());
+                    if(this.fittest == null || emigrant.getFitness() > this.fittest.getFitness())
+                        this.fittest = emigrant;
+                }
+                route(worker, emigrants, random);
+            }
+
+            //3. Stop the workers after the last interval
+            this.iteration += iterations;
+            if(this.iteration >= Configuration.MAX_ITERATIONS){
+                for(MigrationChannel worker : this.workers){
+                    worker.sendStop();
+                    worker.close();
+                }
+            }
+        }
+        catch(IOException e){
+            throw new RuntimeException("Lost connection to a worker.", e);
+        }
+        return this.fittest;
+    }
+
+    /**
+     * Queue a worker's emigrants for their destinations under the configured topology:
+     * "ring" the next worker, "full" every other worker, "random" one other worker drawn each iteration.
+     */
+    private void route(int source, Knapsack[] emigrants, RandomStream random){
+        int numWorkers = this.workers.length;
+        if(numWorkers < 2)
+            return;
+        switch(this.config.getTopology()){
+            case "ring":
+                this.immigrants.get((source + 1) % numWorkers).addAll(Arrays.asList(emigrants));
+                break;
+            case "full":
+                for(int destination = 0; destination < numWorkers; destination++){
+                    if(destination != source)
+                        this.immigrants.get(destination).addAll(Arrays.asList(emigrants));
+                }
+                break;
+            case "random":
+                int destination = random.nextInt(numWorkers - 1);
+                this.immigrants.get(destination < source ? destination : destination + 1).addAll(Arrays.asList(emigrants));
+                break;
+            default:
+                throw new RuntimeException("Unknown topology");
+        }
+    }
+
+    /**
+     * View summary stats across the workers.
+     * @return IntSummaryStatistics - summary statistics of each worker's best reported fitness.
+     */
+    public IntSummaryStatistics getSummaryStats(){
+        return Arrays.stream(this.bestFitness).summaryStatistics();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+import java.io.IOException;
+
+/**
+ * Distributed island model worker, the other side of a DistributedCoordinator.
+ * Connects to the coordinator, builds the GA or PSO island it is assigned, then runs it on the
+ * coordinator's commands: absorb the immigrants, run the given number of iterations and report
+ * copies of the island's best knapsacks, until it is told to stop.
+ */
+public class DistributedWorker {
+
+    /**
+     * Run a worker until the coordinator stops it.
+     * @param address - the coordinator's address, host:port or unix:path.
+     */
+    public static void run(String address){
+        try(MigrationChannel coordinator = MigrationChannel.connect(address)){
+            coordinator.readFrame(MigrationChannel.ASSIGN);
+            long seed = coordinator.getLong();
+            int migrants = coordinator.getInt();
+            String fileName = coordinator.getString();
+
+            //Seed before the island is built so that initialization is reproducible too.
+            RandomStreams.reseed(seed);
+            Island island = createIsland(fileName);
+            System.out.println("Worker running " + fileName);
+
+            while(coordinator.readFrame(MigrationChannel.RUN, MigrationChannel.STOP) == MigrationChannel.RUN){
+                int iterations = coordinator.getInt();
+                for(Knapsack immigrant : coordinator.getGenomes()){
+                    island.immigrate(immigrant);
+                }
+                for(int i = 0; i < iterations; i++){
+                    island.execute();
+                }
+                coordinator.sendReport(island.emigrants(migrants));
+            }
+        }
+        catch(IOException e){
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Build the island for a GA or PSO configuration file.
+     */
+    private static Island createIsland(String fileName){
+        if(fileName.matches("^ga.*"))
+            return new Population(new PopulationConfiguration(fileName));
+        if(fileName.matches("^pso.*"))
+            return new Swarm(new SwarmConfiguration(fileName));
+        throw new RuntimeException("Unknown island configuration " + fileName);
+    }
+}
\ No newline at end of file
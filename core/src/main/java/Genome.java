@@ -0,0 +1,282 @@
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Packed bitset used as the binary representation of a knapsack selection.
+ * Bit i is set when item number i + 1 is in the knapsack. Bits are stored
+ * 64 to a word so copies, crossovers and counts work a word at a time.
+ */
+public class Genome {
+    private static final int ADDRESS_BITS = 6;
+    private final long[] words;
+    private final int size;
+
+    /**
+     * Constructor. Build an empty genome.
+     * @param size - number of bits (items) in the genome.
+     */
+    public Genome(int size){
+        this.size = size;
+        this.words = new long[wordsFor(size)];
+    }
+
+    /**
+     * Copy constructor.
+     * @param other - genome to copy.
+     */
+    public Genome(Genome other){
+        this.size = other.size;
+        this.words = other.words.clone();
+    }
+
+    ////////////////////////
+    ////  Bit Access    ////
+    ////////////////////////
+
+    public boolean get(int index){
+        return (this.words[index >>> ADDRESS_BITS] & (1L << index)) != 0;
+    }
+
+    public void set(int index, boolean value){
+        if(value)
+            this.words[index >>> ADDRESS_BITS] |= 1L << index;
+        else
+            this.words[index >>> ADDRESS_BITS] &= ~(1L << index);
+    }
+
+    public void flip(int index){
+        this.words[index >>> ADDRESS_BITS] ^= 1L << index;
+    }
+
+    /**
+     * Exchange the bits at two indices.
+     */
+    public void swap(int index1, int index2){
+        if(get(index1) != get(index2)){
+            flip(index1);
+            flip(index2);
+        }
+    }
+
+    /**
+     * Number of set bits i.e. number of items selected.
+     * @return int - population count.
+     */
+    public int cardinality(){
+        int count = 0;
+        for(long word : this.words){
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Index of the first set bit at or after fromIndex.
+     * @return int - index of the set bit, -1 if there is none.
+     */
+    public int nextSetBit(int fromIndex){
+        if(fromIndex >= this.size)
+            return -1;
+        int u = fromIndex >>> ADDRESS_BITS;
+        long word = this.words[u] & (-1L << fromIndex);
+        while(true){
+            if(word != 0){
+                int index = (u << ADDRESS_BITS) + Long.numberOfTrailingZeros(word);
+                return index < this.size ? index : -1;
+            }
+            if(++u == this.words.length)
+                return -1;
+            word = this.words[u];
+        }
+    }
+
+    /**
+     * Index of the first clear bit at or after fromIndex.
+     * @return int - index of the clear bit, -1 if there is none.
+     */
+    public int nextClearBit(int fromIndex){
+        if(fromIndex >= this.size)
+            return -1;
+        int u = fromIndex >>> ADDRESS_BITS;
+        long word = ~this.words[u] & (-1L << fromIndex);
+        while(true){
+            if(word != 0){
+                int index = (u << ADDRESS_BITS) + Long.numberOfTrailingZeros(word);
+                return index < this.size ? index : -1;
+            }
+            if(++u == this.words.length)
+                return -1;
+            word = ~this.words[u];
+        }
+    }
+
+    ////////////////////////
+    ////  Word Level    ////
+    ////////////////////////
+
+    /**
+     * Overwrite this genome with the contents of another of the same size.
+     * @param other - genome to copy from.
+     */
+    public void copyFrom(Genome other){
+        System.arraycopy(other.words, 0, this.words, 0, this.words.length);
+    }
+
+    /**
+     * Overwrite this genome with the words stored at offset in a packed bitset matrix.
+     * @param source - rows of wordsFor(size()) words each.
+     * @param offset - index of the first word of the row.
+     */
+    public void loadWords(long[] source, int offset){
+        System.arraycopy(source, offset, this.words, 0, this.words.length);
+    }
+
+    /**
+     * Write this genome's words to offset in a packed bitset matrix.
+     * @param target - rows of wordsFor(size()) words each.
+     * @param offset - index of the first word of the row.
+     */
+    public void storeWords(long[] target, int offset){
+        System.arraycopy(this.words, 0, target, offset, this.words.length);
+    }
+
+    /**
+     * Overwrite the bits in [fromIndex, toIndex) with those of the source genome.
+     */
+    public void copyRange(Genome source, int fromIndex, int toIndex){
+        if(fromIndex >= toIndex)
+            return;
+        int startWord = fromIndex >>> ADDRESS_BITS;
+        int endWord = (toIndex - 1) >>> ADDRESS_BITS;
+        long firstMask = -1L << fromIndex;
+        long lastMask = -1L >>> -toIndex;
+        if(startWord == endWord){
+            long mask = firstMask & lastMask;
+            this.words[startWord] = (this.words[startWord] & ~mask) | (source.words[startWord] & mask);
+            return;
+        }
+        this.words[startWord] = (this.words[startWord] & ~firstMask) | (source.words[startWord] & firstMask);
+        System.arraycopy(source.words, startWord + 1, this.words, startWord + 1, endWord - startWord - 1);
+        this.words[endWord] = (this.words[endWord] & ~lastMask) | (source.words[endWord] & lastMask);
+    }
+
+    /**
+     * Exchange the bits in [fromIndex, toIndex) between this genome and another.
+     * Used for one and two point crossover.
+     */
+    public void swapRange(Genome other, int fromIndex, int toIndex){
+        if(fromIndex >= toIndex)
+            return;
+        int startWord = fromIndex >>> ADDRESS_BITS;
+        int endWord = (toIndex - 1) >>> ADDRESS_BITS;
+        for(int w = startWord; w <= endWord; w++){
+            long mask = -1L;
+            if(w == startWord)
+                mask &= -1L << fromIndex;
+            if(w == endWord)
+                mask &= -1L >>> -toIndex;
+            long diff = (this.words[w] ^ other.words[w]) & mask;
+            this.words[w] ^= diff;
+            other.words[w] ^= diff;
+        }
+    }
+
+    /**
+     * Exchange each bit with another genome with probability 1/2, one random word covers 64 bits.
+     * Used for uniform crossover.
+     * @param random - source of the exchange masks.
+     */
+    public void swapRandomBits(Genome other, RandomGenerator random){
+        for(int w = 0; w < this.words.length; w++){
+            long diff = (this.words[w] ^ other.words[w]) & random.nextLong();
+            this.words[w] ^= diff;
+            other.words[w] ^= diff;
+        }
+    }
+
+    ////////////////////////
+    ////  Permutations  ////
+    ////////////////////////
+
+    /**
+     * Reverse the order of the bits in [fromIndex, toIndex).
+     */
+    public void reverse(int fromIndex, int toIndex){
+        for(int i = fromIndex, j = toIndex - 1; i < j; i++, j--){
+            swap(i, j);
+        }
+    }
+
+    /**
+     * Remove the bit at fromIndex and re-insert it at toIndex, shifting the bits in between.
+     */
+    public void move(int fromIndex, int toIndex){
+        if(fromIndex < toIndex)
+            rotateLeft(fromIndex, toIndex + 1, 1);
+        else if(fromIndex > toIndex)
+            rotateLeft(toIndex, fromIndex + 1, fromIndex - toIndex);
+    }
+
+    /**
+     * Remove the block [fromIndex, toIndex) and re-insert it so that it starts at
+     * insertIndex of the genome that remains once the block is removed.
+     */
+    public void displace(int fromIndex, int toIndex, int insertIndex){
+        int length = toIndex - fromIndex;
+        if(insertIndex < fromIndex)
+            rotateLeft(insertIndex, toIndex, fromIndex - insertIndex);
+        else if(insertIndex > fromIndex)
+            rotateLeft(fromIndex, insertIndex + length, length);
+    }
+
+    /**
+     * Rotate the bits in [fromIndex, toIndex) left by distance places, in place.
+     */
+    private void rotateLeft(int fromIndex, int toIndex, int distance){
+        reverse(fromIndex, fromIndex + distance);
+        reverse(fromIndex + distance, toIndex);
+        reverse(fromIndex, toIndex);
+    }
+
+    /////////////////////////////
+    //// Getters and Setters ////
+    /////////////////////////////
+
+    public int size(){
+        return this.size;
+    }
+
+    /**
+     * Number of 64 bit words used to store a genome of the given size.
+     */
+    public static int wordsFor(int size){
+        return (size + 63) >>> ADDRESS_BITS;
+    }
+
+    @Override
+    public boolean equals(Object other){
+        if(this == other)
+            return true;
+        if(other == null || getClass() != other.getClass())
+            return false;
+        Genome otherGenome = (Genome) other;
+        return this.size == otherGenome.size && Arrays.equals(this.words, otherGenome.words);
+    }
+
+    @Override
+    public int hashCode(){
+        return Arrays.hashCode(this.words);
+    }
+
+    /**
+     * Binary string representation i.e. "0110...".
+     */
+    @Override
+    public String toString(){
+        StringBuilder bits = new StringBuilder(this.size);
+        for(int i = 0; i < this.size; i++){
+            bits.append(get(i) ? '1' : '0');
+        }
+        return bits.toString();
+    }
+}
@@ -0,0 +1,25 @@
+/**
+ * A simulation that can exchange knapsacks with other simulations,
+ * implemented by Population (GA) and Swarm (PSO) for the island models.
+ */
+public interface Island {
+
+    /**
+     * Execute one iteration of the simulation.
+     * @return Knapsack - the best knapsack of the iteration.
+     */
+    Knapsack execute();
+
+    /**
+     * Copies of the simulation's best knapsacks, to be sent to other simulations.
+     * @param count - number of migrants.
+     * @return Knapsack[] - the migrants.
+     */
+    Knapsack[] emigrants(int count);
+
+    /**
+     * Take in a knapsack from another simulation in place of the simulation's worst, if it is better.
+     * @param migrant - knapsack from another simulation, it is copied and left unchanged.
+     */
+    void immigrate(Knapsack migrant);
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Config specific to the island-model GA.
+ * Each island is a GA configuration of its own, listed under the keys "island_1", "island_2", ...
+ */
+public class IslandConfiguration extends Configuration {
+    public static final String ISLAND_PATH = "data/configuration/island/";
+    public static final int NUM_CONFIGURATIONS = 0;
+    private List<String> islandFileNames;
+    private List<PopulationConfiguration> islands;
+    private int islandSize;
+    private int migrationInterval;
+    private int migrants;
+    private String topology;
+    private boolean synchronous;
+
+    /**
+     * Constructor
+     * @param fileName - containing config data
+     */
+    public IslandConfiguration(String fileName){
+        super();
+        loadConfig(fileName);
+    }
+
+    /**
+     * String representation of configuration for report.
+     */
+    public String toString(){
+        return "Islands" + " | #" + Configuration.MAX_ITERATIONS + " | " + this.islands.size() + " x " + this.islandSize
+            + " | " + "topology: " + this.topology + " | " + "migration_interval: " + this.migrationInterval
+            + " | " + "migrants: " + this.migrants + (this.synchronous ? " | synchronous" : "") + " | " + String.join(" ", this.islandFileNames);
+    }
+
+    /**
+     * Parse the JSON file and load the necessary config data
+     * @param fileName - containing config data
+     */
+    @Override
+    protected void loadConfig(String fileName){
+        Map<String, String> json = readJson(ISLAND_PATH + fileName);
+        this.islandFileNames = new ArrayList<>();
+        this.islands = new ArrayList<>();
+        for(var entry : json.entrySet()){
+            if(entry.getKey().startsWith("island_")){
+                this.islandFileNames.add(entry.getValue());
+                this.islands.add(new PopulationConfiguration(entry.getValue()));
+            }
+        }
+        if(this.islands.isEmpty())
+            throw new RuntimeException("Unknown islands");
+        this.islandSize = Integer.parseInt(json.getOrDefault("island_size", PopulationConfiguration.POPULATION_SIZE / this.islands.size() + ""));
+        this.migrationInterval = Integer.parseInt(json.get("migration_interval"));
+        this.migrants = Integer.parseInt(json.get("migrants"));
+        this.topology = json.getOrDefault("topology", "ring");
+        this.synchronous = Boolean.parseBoolean(json.getOrDefault("synchronous", "false"));
+    }
+
+    /**
+     * GA configuration of each island.
+     */
+    public List<PopulationConfiguration> getIslands() {
+        return this.islands;
+    }
+
+    /**
+     * Number of chromosomes on each island, POPULATION_SIZE shared between the islands by default.
+     */
+    public int getIslandSize() {
+        return this.islandSize;
+    }
+
+    /**
+     * Generations each island evolves between migrations.
+     */
+    public int getMigrationInterval() {
+        return this.migrationInterval;
+    }
+
+    /**
+     * Number of its fittest chromosomes an island sends to each destination.
+     */
+    public int getMigrants() {
+        return this.migrants;
+    }
+
+    /**
+     * Migration topology, set by the optional "topology" key.
+     * @return String - one of ["ring", "full", "random"], ring by default.
+     */
+    public String getTopology() {
+        return this.topology;
+    }
+
+    /**
+     * Whether the islands wait for each other at every migration, set by the optional "synchronous" key.
+     * Off by default, a synchronous run is repeatable from its seed.
+     */
+    public boolean isSynchronous() {
+        return this.synchronous;
+    }
+
+    public int getNumConfigurations(){
+        return IslandConfiguration.NUM_CONFIGURATIONS;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,255 @@
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Island-model GA Simulation Manager.
+ * Several Populations (islands), each with its own GA configuration, evolve independently and
+ * send copies of their fittest chromosomes to other islands every migration_interval generations.
+ * Migrants travel over lock-free queues, one per ordered pair of islands.
+ * By default migration is asynchronous: every island evolves on its own thread for
+ * Configuration.MAX_ITERATIONS generations, absorbs whatever migrants have arrived before each
+ * interval and offers its own without waiting for anyone, so a slow island never holds up the others.
+ * Each island publishes a copy of its fittest chromosome after every interval, and an iteration
+ * of the model returns once the islands have completed as many intervals as there are islands.
+ * Arrival order depends on timing, so a seeded asynchronous run is not repeatable.
+ * The synchronous mode trades that for determinism: one iteration runs migration_interval
+ * generations of every island in parallel on Configuration.WORKER_POOL and migrants are absorbed
+ * after that barrier, from queues double buffered by the parity of the iteration and drained in
+ * source order, so a seeded run does not depend on the number of threads.
+ */
+public class IslandModel extends SimulationManager{
+    private final IslandConfiguration config;
+    private final Population[] islands;
+    private final List<ConcurrentLinkedQueue<Chromosome>> channels;
+    private final int[] randomDestinations;
+    private final int rounds;
+    private int generation;
+    private int round;
+
+    //Asynchronous mode: what each island last published, and one permit per completed interval.
+    private final AtomicReferenceArray<Chromosome> publishedFittest;
+    private final AtomicReferenceArray<IntSummaryStatistics> publishedStats;
+    private final Semaphore completedIntervals = new Semaphore(0);
+    private volatile RuntimeException failure;
+    private boolean started;
+
+    /**
+     * Constructor.
+     * Initialize a random population on every island.
+     * @param config - island configuration.
+     */
+    public IslandModel(IslandConfiguration config) {
+        super();
+        this.config = config;
+        int numIslands = config.getIslands().size();
+        this.islands = new Population[numIslands];
+        for(int island = 0; island < numIslands; island++){
+            this.islands[island] = new Population(config.getIslands().get(island), config.getIslandSize());
+        }
+        this.channels = new ArrayList<>();
+        for(int i = 0; i < 2 * numIslands * numIslands; i++){
+            this.channels.add(new ConcurrentLinkedQueue<>());
+        }
+        this.randomDestinations = new int[numIslands];
+        this.rounds = (Configuration.MAX_ITERATIONS + config.getMigrationInterval() - 1) / config.getMigrationInterval();
+        this.publishedFittest = new AtomicReferenceArray<>(numIslands);
+        this.publishedStats = new AtomicReferenceArray<>(numIslands);
+    }
+
+    /**
+     * Execute an iteration of the island model, on average one migration interval per island.
+     * @return Chromosome - the fittest chromosome on any island, null once the run is over.
+     */
+    public Knapsack execute(){
+        return this.config.isSynchronous() ? executeSynchronous() : executeAsynchronous();
+    }
+
+    ///////////////////////////
+    ////    Asynchronous   ////
+    ///////////////////////////
+
+    /**
+     * Start the island threads on the first call, then wait for the islands to complete
+     * another islands.length migration intervals between them, whichever islands they were.
+     */
+    private Knapsack executeAsynchronous(){
+        if(this.round >= this.rounds)
+            return null;
+        if(!this.started){
+            for(int island = 0; island < this.islands.length; island++){
+                final int index = island;
+                Thread thread = new Thread(() -> runIsland(index), "island-" + (island + 1));
+                thread.setDaemon(true);
+                thread.start();
+            }
+            this.started = true;
+        }
+        this.completedIntervals.acquireUninterruptibly(this.islands.length);
+        if(this.failure != null)
+            throw new RuntimeException("Island failed", this.failure);
+        this.round++;
+
+        Chromosome fittest = null;
+        for(int island = 0; island < this.islands.length; island++){
+            Chromosome published = this.publishedFittest.get(island);
+            if(published != null && (fittest == null || published.getFitness() > fittest.getFitness()))
+                fittest = published;
+        }
+        return fittest;
+    }
+
+    /**
+     * Body of one island's thread: evolve for Configuration.MAX_ITERATIONS generations, migrating
+     * every interval without waiting for the other islands.
+     */
+    private void runIsland(int island){
+        try{
+            Population population = this.islands[island];
+            for(int generation = 0; generation < Configuration.MAX_ITERATIONS; ){
+                for(int source = 0; source < this.islands.length; source++){
+                    Chromosome migrant;
+                    while((migrant = channel(0, source, island).poll()) != null)
+                        population.immigrate(migrant);
+                }
+                int generations = Math.min(this.config.getMigrationInterval(), Configuration.MAX_ITERATIONS - generation);
+                for(int i = 0; i < generations; i++){
+                    population.execute();
+                }
+                generation += generations;
+                if(this.config.getTopology().equals("random"))
+                    drawRandomDestination(island, RandomStreams.current());
+                emigrate(island, 0, population.emigrants(this.config.getMigrants()));
+                this.publishedFittest.set(island, new Chromosome(population.getFittestKnapsack()));
+                this.publishedStats.set(island, population.getSummaryStats());
+                this.completedIntervals.release();
+            }
+        }
+        catch(RuntimeException e){
+            this.failure = e;
+            this.completedIntervals.release(this.rounds * this.islands.length);
+        }
+    }
+
+    ///////////////////////////
+    ////    Synchronous    ////
+    ///////////////////////////
+
+    /**
+     * Every island absorbs its migrants, evolves for a migration interval, and sends its
+     * fittest chromosomes on, with a barrier at the end of the interval.
+     */
+    private Knapsack executeSynchronous(){
+        if(this.generation >= Configuration.MAX_ITERATIONS)
+            return null;
+        int generations = Math.min(this.config.getMigrationInterval(), Configuration.MAX_ITERATIONS - this.generation);
+
+        //1. Draw this iteration's destinations for the random topology
+        if(this.config.getTopology().equals("random"))
+            drawRandomDestinations();
+
+        //2. Evolve the islands independently between migrations
+        parallelFor(this.islands.length, island -> {
+            Population population = this.islands[island];
+            for(int source = 0; source < this.islands.length; source++){
+                Chromosome migrant;
+                while((migrant = channel(this.round + 1, source, island).poll()) != null)
+                    population.immigrate(migrant);
+            }
+            for(int i = 0; i < generations; i++){
+                population.execute();
+            }
+            emigrate(island, this.round, population.emigrants(this.config.getMigrants()));
+        });
+        this.generation += generations;
+        this.round++;
+
+        //3. Fittest chromosome across the islands
+        Chromosome fittest = this.islands[0].getFittestKnapsack();
+        for(Population population : this.islands){
+            if(population.getFittestKnapsack().getFitness() > fittest.getFitness())
+                fittest = population.getFittestKnapsack();
+        }
+        return fittest;
+    }
+
+    /**
+     * Send migrants to the island's destinations under the configured topology:
+     * "ring" the next island, "full" every other island, "random" one other island drawn each interval.
+     * The migrants are only read by the destinations, so they are shared between them.
+     */
+    private void emigrate(int island, int round, Chromosome[] migrants){
+        int numIslands = this.islands.length;
+        if(numIslands < 2)
+            return;
+        switch(this.config.getTopology()){
+            case "ring":
+                send(round, island, (island + 1) % numIslands, migrants);
+                break;
+            case "full":
+                for(int destination = 0; destination < numIslands; destination++){
+                    if(destination != island)
+                        send(round, island, destination, migrants);
+                }
+                break;
+            case "random":
+                send(round, island, this.randomDestinations[island], migrants);
+                break;
+            default:
+                throw new RuntimeException("Unknown topology");
+        }
+    }
+
+    private void send(int round, int source, int destination, Chromosome[] migrants){
+        ConcurrentLinkedQueue<Chromosome> channel = channel(round, source, destination);
+        for(Chromosome migrant : migrants){
+            channel.offer(migrant);
+        }
+    }
+
+    /**
+     * Give every island one random destination other than itself.
+     */
+    private void drawRandomDestinations(){
+        if(this.islands.length < 2)
+            return;
+        RandomStream random = serialStream();
+        for(int island = 0; island < this.islands.length; island++){
+            drawRandomDestination(island, random);
+        }
+    }
+
+    private void drawRandomDestination(int island, RandomStream random){
+        if(this.islands.length < 2)
+            return;
+        int destination = random.nextInt(this.islands.length - 1);
+        this.randomDestinations[island] = destination < island ? destination : destination + 1;
+    }
+
+    /**
+     * Queue of migrants from one island to another, sent in iterations of the given parity.
+     * The asynchronous mode only uses round 0.
+     */
+    private ConcurrentLinkedQueue<Chromosome> channel(int round, int source, int destination){
+        int numIslands = this.islands.length;
+        return this.channels.get(((round & 1) * numIslands + destination) * numIslands + source);
+    }
+
+    /**
+     * View summary stats across the islands.
+     * @return IntSummaryStatistics - summary statistics.
+     */
+    public IntSummaryStatistics getSummaryStats(){
+        IntSummaryStatistics stats = new IntSummaryStatistics();
+        for(int island = 0; island < this.islands.length; island++){
+            if(this.config.isSynchronous())
+                stats.combine(this.islands[island].getSummaryStats());
+            else if(this.publishedStats.get(island) != null)
+                stats.combine(this.publishedStats.get(island));
+        }
+        return stats;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Scanner;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable catalog of the knapsack items stored as primitive arrays.
+ * Item index i (zero based) is item number i + 1 in the knapsack dataset.
+ */
+public final class ItemCatalog {
+    private final int[] weights;
+    private final int[] values;
+    private final int[] byRatioDescending;
+    private final int minimumWeight;
+
+    /**
+     * Constructor. Precomputes the value/weight ratio order.
+     * @param weights - weight of each item.
+     * @param values - value of each item.
+     */
+    public ItemCatalog(int[] weights, int[] values){
+        this.weights = weights.clone();
+        this.values = values.clone();
+        double[] ratios = new double[weights.length];
+        for(int i = 0; i < weights.length; i++){
+            ratios[i] = (double)values[i] / weights[i];
+        }
+        this.byRatioDescending = IntStream.range(0, weights.length).boxed()
+            .sorted(Comparator.comparingDouble((Integer i) -> ratios[i]).reversed())
+            .mapToInt(i -> i)
+            .toArray();
+        this.minimumWeight = Arrays.stream(weights).min().orElse(0);
+    }
+
+    /**
+     * Load the full knapsack dataset from a csv file.
+     * Data provided in format: #;weight;value
+     * @param fileName - Name of file storing the knapsack data.
+     * @return ItemCatalog storing the knapsack items.
+     */
+    public static ItemCatalog load(String fileName){
+        List<int[]> rows = new ArrayList<>();
+        File file = new File(fileName);
+        try {
+            Scanner sc = new Scanner(file);
+            sc.nextLine();
+            while (sc.hasNextLine()){
+                List<Integer> data = Arrays.asList(sc.nextLine().split(";")).stream()
+                                                                    .map(s -> Integer.valueOf(s))
+                                                                    .collect(Collectors.toList());
+                rows.add(new int[]{data.get(0), data.get(1), data.get(2)});
+            }
+            sc.close();
+        }
+        catch(IOException e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+
+        int[] weights = new int[rows.size()];
+        int[] values = new int[rows.size()];
+        for(int[] row : rows){
+            //Note -1 for 0 indexing
+            weights[row[0] - 1] = row[1];
+            values[row[0] - 1] = row[2];
+        }
+        return new ItemCatalog(weights, values);
+    }
+
+    /////////////////////////////
+    ////       Getters       ////
+    /////////////////////////////
+
+    public int size(){
+        return this.weights.length;
+    }
+
+    public int weight(int index){
+        return this.weights[index];
+    }
+
+    public int value(int index){
+        return this.values[index];
+    }
+
+    /**
+     * Index of the item with the rank-th highest value/weight ratio.
+     */
+    public int byRatioDescending(int rank){
+        return this.byRatioDescending[rank];
+    }
+
+    /**
+     * Weight of the lightest item, no item fits once less capacity than this remains.
+     */
+    public int getMinimumWeight(){
+        return this.minimumWeight;
+    }
+}
@@ -0,0 +1,411 @@
+import java.text.DecimalFormat;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+/**
+ * Class used to represent a knapsack with a given selection of Knapsack Itenms.
+ * The total weight and value of the selection are cached and kept up to date by
+ * the item operators below, so the knapsackSelection must only be changed through them.
+ */
+public class Knapsack implements Comparable<Knapsack>{
+    protected Genome knapsackSelection;
+    protected int fitness;
+    protected int weight;
+    protected int value;
+
+    ///////////////////////////
+    ////    Constructors   ////
+    ///////////////////////////
+
+    /**
+     * Default Constructor.
+     */
+    protected Knapsack(){}
+
+    /**
+     * Copy constructor. Copies the selection along with its cached totals.
+     * @param knapsack - knapsack to copy.
+     */
+    protected Knapsack(Knapsack knapsack){
+        this.knapsackSelection = new Genome(knapsack.knapsackSelection);
+        this.fitness = knapsack.fitness;
+        this.weight = knapsack.weight;
+        this.value = knapsack.value;
+    }
+
+    /** 
+     * Fitness function for determining the fitness of this knapsack.
+     * @return 1 for an invalid knapsack, sum of values of individual items selected for a valid knapsack.
+     */
+    public int calculateFitness(){
+        if(this.weight > Configuration.MAX_CAPACITY)
+            return 1;
+        return this.value;
+    }
+
+    /**
+     * Check if a given knapsack is valid by ensuring it is the right size
+     * and has a fitness greater than 1 (the fitness assigned to an invalid knapsack).
+     * @return true if valid knapsack, false othewise.
+     */
+    public boolean isValid(){
+        return this.weight < Configuration.MAX_CAPACITY && this.knapsackSelection.size() == Configuration.NUM_ITEMS;
+    }
+
+    ////////////////////////
+    ////  Item Operators ////
+    ////////////////////////
+
+    /**
+     * Add or remove a single item, updating the cached totals by its delta.
+     * @param index - zero based item index.
+     * @param selected - whether the item should be in the knapsack.
+     */
+    public void setItem(int index, boolean selected){
+        if(this.knapsackSelection.get(index) != selected)
+            flipItem(index);
+    }
+
+    /**
+     * Toggle a single item in or out of the knapsack.
+     * @param index - zero based item index.
+     */
+    public void flipItem(int index){
+        int sign = this.knapsackSelection.get(index) ? -1 : 1;
+        this.knapsackSelection.flip(index);
+        this.weight += sign * Configuration.ITEM_CATALOG.weight(index);
+        this.value += sign * Configuration.ITEM_CATALOG.value(index);
+    }
+
+    /**
+     * Exchange the genes at two indices.
+     */
+    public void swapItems(int index1, int index2){
+        if(this.knapsackSelection.get(index1) != this.knapsackSelection.get(index2)){
+            flipItem(index1);
+            flipItem(index2);
+        }
+    }
+
+    /**
+     * Reverse the genes in [fromIndex, toIndex).
+     */
+    public void reverseItems(int fromIndex, int toIndex){
+        addRangeTotals(fromIndex, toIndex, -1);
+        this.knapsackSelection.reverse(fromIndex, toIndex);
+        addRangeTotals(fromIndex, toIndex, 1);
+    }
+
+    /**
+     * Remove the gene at fromIndex and re-insert it at toIndex.
+     */
+    public void moveItem(int fromIndex, int toIndex){
+        int left = Math.min(fromIndex, toIndex);
+        int right = Math.max(fromIndex, toIndex) + 1;
+        addRangeTotals(left, right, -1);
+        this.knapsackSelection.move(fromIndex, toIndex);
+        addRangeTotals(left, right, 1);
+    }
+
+    /**
+     * Move the block of genes [fromIndex, toIndex) so it starts at insertIndex
+     * of the genes that remain once the block is removed.
+     */
+    public void displaceItems(int fromIndex, int toIndex, int insertIndex){
+        int left = Math.min(fromIndex, insertIndex);
+        int right = Math.max(toIndex, insertIndex + toIndex - fromIndex);
+        addRangeTotals(left, right, -1);
+        this.knapsackSelection.displace(fromIndex, toIndex, insertIndex);
+        addRangeTotals(left, right, 1);
+    }
+
+    /**
+     * Exchange each gene with another knapsack with probability 1/2.
+     * @param other - knapsack to cross genes with.
+     * @param random - source of the exchanges.
+     */
+    public void exchangeRandomItems(Knapsack other, RandomGenerator random){
+        int size = this.knapsackSelection.size();
+        addRangeTotals(0, size, -1);
+        other.addRangeTotals(0, size, -1);
+        this.knapsackSelection.swapRandomBits(other.knapsackSelection, random);
+        addRangeTotals(0, size, 1);
+        other.addRangeTotals(0, size, 1);
+    }
+
+    /**
+     * Remove selected items, lowest value/weight ratio first, until the knapsack is valid.
+     * Walks ITEM_CATALOG's ratio order from the worst item and stops as soon as the weight
+     * fits, so a knapsack that is already valid costs nothing. No allocation.
+     */
+    public void repair(){
+        ItemCatalog catalog = Configuration.ITEM_CATALOG;
+        for(int rank = catalog.size() - 1; rank >= 0 && this.weight >= Configuration.MAX_CAPACITY; rank--){
+            int item = catalog.byRatioDescending(rank);
+            if(this.knapsackSelection.get(item))
+                flipItem(item);
+        }
+    }
+
+    /**
+     * Add unselected items, highest value/weight ratio first, wherever they still fit.
+     * Stops once the remaining capacity is below the lightest item. No allocation.
+     */
+    public void improve(){
+        ItemCatalog catalog = Configuration.ITEM_CATALOG;
+        for(int rank = 0; rank < catalog.size() && Configuration.MAX_CAPACITY - this.weight > catalog.getMinimumWeight(); rank++){
+            int item = catalog.byRatioDescending(rank);
+            if(!this.knapsackSelection.get(item) && isValidWith(catalog.weight(item)))
+                flipItem(item);
+        }
+    }
+
+    /**
+     * Greedy repair and local improvement: make the knapsack valid by dropping its worst items,
+     * then fill the remaining capacity with the best items that fit, and update the fitness.
+     * Works on the cached totals one item at a time, so it is cheap enough to run on every candidate.
+     */
+    public void repairAndImprove(){
+        repair();
+        improve();
+        updateFitness();
+    }
+
+    /**
+     * Overwrite the genes in [fromIndex, toIndex) with those of another knapsack.
+     * @param other - knapsack to take genes from.
+     */
+    public void copyItems(Knapsack other, int fromIndex, int toIndex){
+        addRangeTotals(fromIndex, toIndex, -1);
+        this.knapsackSelection.copyRange(other.knapsackSelection, fromIndex, toIndex);
+        addRangeTotals(fromIndex, toIndex, 1);
+    }
+
+    /**
+     * Overwrite this knapsack with the selection and cached totals of another of the same size.
+     * Used to reuse knapsacks in place of copy construction.
+     * @param other - knapsack to copy.
+     */
+    public void copyFrom(Knapsack other){
+        this.knapsackSelection.copyFrom(other.knapsackSelection);
+        this.fitness = other.fitness;
+        this.weight = other.weight;
+        this.value = other.value;
+    }
+
+    /**
+     * Exchange the genes in [fromIndex, toIndex) with another knapsack.
+     * @param other - knapsack to cross genes with.
+     */
+    public void exchangeItems(Knapsack other, int fromIndex, int toIndex){
+        addRangeTotals(fromIndex, toIndex, -1);
+        other.addRangeTotals(fromIndex, toIndex, -1);
+        this.knapsackSelection.swapRange(other.knapsackSelection, fromIndex, toIndex);
+        addRangeTotals(fromIndex, toIndex, 1);
+        other.addRangeTotals(fromIndex, toIndex, 1);
+    }
+
+    ////////////////////////
+    ////  Weight Deltas  ////
+    ////////////////////////
+
+    /*
+     * Change in weight the matching item operator would make, computed without applying it,
+     * so infeasible moves can be rejected before anything is changed.
+     */
+
+    /**
+     * Check whether this knapsack would still be valid after a change in weight.
+     * @param weightDelta - change in weight of a proposed move.
+     * @return true if the move keeps the knapsack valid.
+     */
+    public boolean isValidWith(int weightDelta){
+        return this.weight + weightDelta < Configuration.MAX_CAPACITY && this.knapsackSelection.size() == Configuration.NUM_ITEMS;
+    }
+
+    /**
+     * Weight change of flipItem(index). O(1).
+     */
+    public int flipWeightDelta(int index){
+        int weight = Configuration.ITEM_CATALOG.weight(index);
+        return this.knapsackSelection.get(index) ? -weight : weight;
+    }
+
+    /**
+     * Weight change of swapItems(index1, index2). O(1).
+     */
+    public int swapWeightDelta(int index1, int index2){
+        if(this.knapsackSelection.get(index1) == this.knapsackSelection.get(index2))
+            return 0;
+        return flipWeightDelta(index1) + flipWeightDelta(index2);
+    }
+
+    /**
+     * Weight change of reverseItems(fromIndex, toIndex), each selected gene at i moves to fromIndex + toIndex - 1 - i.
+     */
+    public int reverseWeightDelta(int fromIndex, int toIndex){
+        int delta = 0;
+        for(int i = this.knapsackSelection.nextSetBit(fromIndex); i >= 0 && i < toIndex; i = this.knapsackSelection.nextSetBit(i + 1)){
+            delta += Configuration.ITEM_CATALOG.weight(fromIndex + toIndex - 1 - i) - Configuration.ITEM_CATALOG.weight(i);
+        }
+        return delta;
+    }
+
+    /**
+     * Weight change of moveItem(fromIndex, toIndex), the genes in between shift one place towards fromIndex.
+     */
+    public int moveWeightDelta(int fromIndex, int toIndex){
+        int delta = 0;
+        if(this.knapsackSelection.get(fromIndex))
+            delta += Configuration.ITEM_CATALOG.weight(toIndex) - Configuration.ITEM_CATALOG.weight(fromIndex);
+        if(fromIndex < toIndex)
+            delta += shiftWeightDelta(fromIndex + 1, toIndex + 1, -1);
+        else
+            delta += shiftWeightDelta(toIndex, fromIndex, 1);
+        return delta;
+    }
+
+    /**
+     * Weight change of displaceItems(fromIndex, toIndex, insertIndex), the genes the block
+     * passes over shift by its length in the opposite direction.
+     */
+    public int displaceWeightDelta(int fromIndex, int toIndex, int insertIndex){
+        int length = toIndex - fromIndex;
+        int delta = shiftWeightDelta(fromIndex, toIndex, insertIndex - fromIndex);
+        if(insertIndex < fromIndex)
+            delta += shiftWeightDelta(insertIndex, fromIndex, length);
+        else
+            delta += shiftWeightDelta(toIndex, insertIndex + length, -length);
+        return delta;
+    }
+
+    /**
+     * Weight change of moving every selected gene in [fromIndex, toIndex) by distance places.
+     */
+    private int shiftWeightDelta(int fromIndex, int toIndex, int distance){
+        int delta = 0;
+        for(int i = this.knapsackSelection.nextSetBit(fromIndex); i >= 0 && i < toIndex; i = this.knapsackSelection.nextSetBit(i + 1)){
+            delta += Configuration.ITEM_CATALOG.weight(i + distance) - Configuration.ITEM_CATALOG.weight(i);
+        }
+        return delta;
+    }
+
+    ////////////////////////
+    //// Helper Methods ////
+    ////////////////////////
+    
+    /**
+     * Determine the weight of all of the selected items in the knapsack.
+     * @return sum of knapsack item weight in knapsack.
+     */
+    protected int calculateWeight(){
+        return this.weight;
+    }
+
+    /**
+     * Replace the knapsackSelection and recalculate the cached totals from scratch.
+     * @param knapsackSelection - new selection.
+     */
+    protected void setKnapsackSelection(Genome knapsackSelection){
+        this.knapsackSelection = knapsackSelection;
+        recalculateTotals();
+    }
+
+    /**
+     * Recalculate the cached totals from scratch, after the knapsackSelection was changed directly.
+     */
+    protected void recalculateTotals(){
+        this.weight = 0;
+        this.value = 0;
+        addRangeTotals(0, this.knapsackSelection.size(), 1);
+    }
+
+    /**
+     * Add (sign = 1) or subtract (sign = -1) the weight and value of the
+     * selected items in [fromIndex, toIndex) to the cached totals.
+     */
+    private void addRangeTotals(int fromIndex, int toIndex, int sign){
+        for(int i = this.knapsackSelection.nextSetBit(fromIndex); i >= 0 && i < toIndex; i = this.knapsackSelection.nextSetBit(i + 1)){
+            this.weight += sign * Configuration.ITEM_CATALOG.weight(i);
+            this.value += sign * Configuration.ITEM_CATALOG.value(i);
+        }
+    }
+    /**
+     * Generate a random knapsackSelection within the maximum knapsack capacity.
+     * @return Genome - bitset representing knapsacks selected.
+     */
+    protected Genome generateRandomItems(){
+        RandomStream random = RandomStreams.current();
+
+        //Generate binary representation
+        Genome itemsSelected = new Genome(Configuration.NUM_ITEMS);
+
+        //Indices of the items not yet selected, the first [remaining] entries are available.
+        int[] baseKnapsackItems = IntStream.range(0, Configuration.NUM_ITEMS).toArray();
+        int remaining = baseKnapsackItems.length;
+
+        //Iteratively add items to the knapsack
+        int weight = 0;
+        while(weight < Configuration.MAX_CAPACITY && remaining > 0){
+            int rand = random.nextInt(remaining);
+            int nextItem = baseKnapsackItems[rand];
+            weight += Configuration.ITEM_CATALOG.weight(nextItem);
+
+            if(weight > Configuration.MAX_CAPACITY)
+                break;
+            
+            itemsSelected.set(nextItem, true);
+            baseKnapsackItems[rand] = baseKnapsackItems[--remaining];
+        }
+        return itemsSelected;
+    }
+
+    /**
+     * Compare by fitness value where larger fitness > smaller fitness.
+     * Sorted from largest to smallest fitness.
+     * @param other - knapsack to compare with.
+     * @return 0 if equal fitness, -1 if this fitness > other fitness, 1 if other fitness > this fitness
+     */
+    @Override
+    public int compareTo(Knapsack other){
+        return Integer.compare(other.getFitness(), this.fitness);
+    }
+
+    /**
+     * String representation of Knapsack customized for generating a Report.
+     * @param includeArray - Include a binary representation of the knapsackSelection.
+     * @return customised representation of knapsack for a Report.
+     */
+    public String toReportString(boolean includeArray){
+        StringBuilder sack = new StringBuilder();
+        DecimalFormat df = new DecimalFormat("#.##"); 
+        String sQuality = df.format((double)calculateFitness()/Configuration.BEST_KNOWN_OPTIMUM*100) + "%";
+
+        sack.append(String.format("%-10s", calculateWeight()) + String.format("%-10s", calculateFitness()) + String.format("%-8s", sQuality));
+        if(includeArray){
+            sack.append("        [");
+            sack.append(this.knapsackSelection);
+            sack.append("]");
+        }
+        return new String(sack);
+    }
+
+    /**
+     * Update the fitness for this knapsack
+     */
+    public void updateFitness(){
+        this.fitness = calculateFitness();
+    }
+
+    /////////////////////////////
+    //// Getters and Setters ////
+    /////////////////////////////
+    
+    public Genome getKnapsackSelection() {
+        return this.knapsackSelection;
+    }
+
+    public int getFitness(){
+        return this.fitness;
+    }
+}
\ No newline at end of file
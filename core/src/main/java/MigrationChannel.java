@@ -0,0 +1,200 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Blocking NIO connection between a DistributedCoordinator and one DistributedWorker,
+ * speaking a compact binary protocol. Every message is a frame of an int payload length,
+ * a byte type and the payload, big-endian. Knapsacks are sent as the packed words of their
+ * genome, Genome.wordsFor(NUM_ITEMS) longs each, and their totals are recalculated on arrival.
+ *   ASSIGN  coordinator to worker: long seed, int migrants, UTF-8 configuration file name.
+ *   RUN     coordinator to worker: int iterations, int count, count immigrant genomes.
+ *   REPORT  worker to coordinator: int count, count emigrant genomes.
+ *   STOP    coordinator to worker: empty.
+ */
+public class MigrationChannel implements AutoCloseable {
+    public static final byte ASSIGN = 1;
+    public static final byte RUN = 2;
+    public static final byte REPORT = 3;
+    public static final byte STOP = 4;
+    private static final int WORDS = Genome.wordsFor(Configuration.NUM_ITEMS);
+    private static final int HEADER_BYTES = Integer.BYTES + Byte.BYTES;
+
+    private final SocketChannel channel;
+    private final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+    private ByteBuffer buffer = ByteBuffer.allocate(1024);
+    private final long[] words = new long[WORDS];
+
+    /**
+     * Constructor.
+     * @param channel - connected channel, in blocking mode.
+     */
+    public MigrationChannel(SocketChannel channel) throws IOException {
+        this.channel = channel;
+        if(channel.getRemoteAddress() instanceof InetSocketAddress)
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    }
+
+    /**
+     * Connect to a coordinator.
+     * @param address - see parseAddress.
+     */
+    public static MigrationChannel connect(String address) throws IOException {
+        return new MigrationChannel(SocketChannel.open(parseAddress(address)));
+    }
+
+    /**
+     * Parse "host:port" into a TCP address, or "unix:path" into a Unix domain socket address.
+     */
+    public static SocketAddress parseAddress(String address){
+        if(address.startsWith("unix:"))
+            return UnixDomainSocketAddress.of(address.substring("unix:".length()));
+        int separator = address.lastIndexOf(':');
+        if(separator < 0)
+            throw new RuntimeException("Unknown address " + address);
+        return new InetSocketAddress(address.substring(0, separator), Integer.parseInt(address.substring(separator + 1)));
+    }
+
+    ///////////////////////////
+    ////      Writing      ////
+    ///////////////////////////
+
+    public void sendAssign(long seed, int migrants, String fileName) throws IOException {
+        byte[] name = fileName.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer frame = beginFrame(ASSIGN, Long.BYTES + Integer.BYTES + name.length);
+        frame.putLong(seed).putInt(migrants).put(name);
+        sendFrame();
+    }
+
+    public void sendRun(int iterations, Knapsack[] immigrants) throws IOException {
+        ByteBuffer frame = beginFrame(RUN, Integer.BYTES + genomesBytes(immigrants));
+        frame.putInt(iterations);
+        putGenomes(immigrants);
+        sendFrame();
+    }
+
+    public void sendReport(Knapsack[] emigrants) throws IOException {
+        beginFrame(REPORT, genomesBytes(emigrants));
+        putGenomes(emigrants);
+        sendFrame();
+    }
+
+    public void sendStop() throws IOException {
+        beginFrame(STOP, 0);
+        sendFrame();
+    }
+
+    ///////////////////////////
+    ////      Reading      ////
+    ///////////////////////////
+
+    /**
+     * Read the next frame, blocking until it has fully arrived.
+     * @param expected - frame types the caller accepts.
+     * @return byte - type of the frame, its payload is then read with the getters below.
+     */
+    public byte readFrame(byte... expected) throws IOException {
+        this.header.clear();
+        readFully(this.header);
+        this.header.flip();
+        int length = this.header.getInt();
+        byte type = this.header.get();
+        boolean known = false;
+        for(byte accepted : expected){
+            known |= accepted == type;
+        }
+        if(!known)
+            throw new RuntimeException("Unknown frame type " + type);
+        ensureCapacity(length);
+        this.buffer.clear().limit(length);
+        readFully(this.buffer);
+        this.buffer.flip();
+        return type;
+    }
+
+    public int getInt(){
+        return this.buffer.getInt();
+    }
+
+    public long getLong(){
+        return this.buffer.getLong();
+    }
+
+    /**
+     * @return String - the rest of the payload as UTF-8.
+     */
+    public String getString(){
+        byte[] bytes = new byte[this.buffer.remaining()];
+        this.buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return Knapsack[] - a count followed by that many genomes, as knapsacks with their fitness calculated.
+     */
+    public Knapsack[] getGenomes(){
+        Knapsack[] knapsacks = new Knapsack[this.buffer.getInt()];
+        for(int i = 0; i < knapsacks.length; i++){
+            for(int w = 0; w < WORDS; w++){
+                this.words[w] = this.buffer.getLong();
+            }
+            Genome genome = new Genome(Configuration.NUM_ITEMS);
+            genome.loadWords(this.words, 0);
+            knapsacks[i] = new Chromosome(genome).withFitnessCalculated();
+        }
+        return knapsacks;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    ////////////////////////
+    //// Helper Methods ////
+    ////////////////////////
+
+    private static int genomesBytes(Knapsack[] knapsacks){
+        return Integer.BYTES + knapsacks.length * WORDS * Long.BYTES;
+    }
+
+    private void putGenomes(Knapsack[] knapsacks){
+        this.buffer.putInt(knapsacks.length);
+        for(Knapsack knapsack : knapsacks){
+            knapsack.getKnapsackSelection().storeWords(this.words, 0);
+            for(long word : this.words){
+                this.buffer.putLong(word);
+            }
+        }
+    }
+
+    private ByteBuffer beginFrame(byte type, int length){
+        ensureCapacity(HEADER_BYTES + length);
+        return this.buffer.clear().putInt(length).put(type);
+    }
+
+    private void sendFrame() throws IOException {
+        this.buffer.flip();
+        while(this.buffer.hasRemaining()){
+            this.channel.write(this.buffer);
+        }
+    }
+
+    private void readFully(ByteBuffer target) throws IOException {
+        while(target.hasRemaining()){
+            if(this.channel.read(target) < 0)
+                throw new EOFException("Connection closed");
+        }
+    }
+
+    private void ensureCapacity(int bytes){
+        if(this.buffer.capacity() < bytes)
+            this.buffer = ByteBuffer.allocate(Math.max(bytes, 2 * this.buffer.capacity()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+
+/**
+ * Parallel Tempering (replica exchange) Simulation Manager.
+ * Runs SimulatedAnnealing chains as replicas on a geometric ladder of fixed temperatures from
+ * SimulatedAnnealingConfiguration.MIN_TEMPERATURE up to the initial temperature.
+ * Each iteration every replica makes exchange_interval Metropolis moves on Configuration.WORKER_POOL
+ * without synchronizing, then replicas on neighbouring rungs attempt to swap temperatures,
+ * alternating between the even and the odd pairs. Hot replicas explore, cold ones refine,
+ * and good solutions found hot move down the ladder.
+ */
+public class ParallelTempering extends SimulationManager{
+    private final SimulatedAnnealing[] replicas;
+    private final double[] temperatures;
+    private final int[] replicaAt;
+    private final int[] energies;
+    private final int exchangeInterval;
+    private int round;
+
+    /**
+     * Constructor.
+     * Initialize config.getReplicas() random replicas, replica i on rung i.
+     * @param config - SA configuration for the replicas.
+     */
+    public ParallelTempering(SimulatedAnnealingConfiguration config) {
+        super();
+        int numReplicas = config.getReplicas();
+        this.replicas = new SimulatedAnnealing[numReplicas];
+        this.temperatures = new double[numReplicas];
+        this.replicaAt = new int[numReplicas];
+        this.energies = new int[numReplicas];
+        this.exchangeInterval = config.getExchangeInterval();
+
+        double minimumTemperature = SimulatedAnnealingConfiguration.MIN_TEMPERATURE;
+        double ratio = config.getInitialTemperature() / minimumTemperature;
+        for(int rung = 0; rung < numReplicas; rung++){
+            this.replicas[rung] = new SimulatedAnnealing(config);
+            this.temperatures[rung] = numReplicas == 1 ? config.getInitialTemperature() : minimumTemperature * Math.pow(ratio, (double)rung / (numReplicas - 1));
+            this.replicaAt[rung] = rung;
+            this.energies[rung] = this.replicas[rung].getBestCandidate().calculateEnergy();
+        }
+    }
+
+    /**
+     * Execute an iteration of Parallel Tempering: a batch of moves on every replica, then one round of exchanges.
+     * @return SACandidate - the best candidate found by any replica, reused and overwritten by later iterations.
+     */
+    public Knapsack execute(){
+        //1. Every replica samples at its rung's temperature, each on its own stream
+        parallelFor(this.replicas.length, rung -> {
+            int replica = this.replicaAt[rung];
+            this.energies[replica] = this.replicas[replica].sample(this.temperatures[rung], this.exchangeInterval);
+        });
+
+        //2. Attempt to exchange the replicas on neighbouring rungs
+        RandomStream random = serialStream();
+        for(int rung = this.round % 2; rung + 1 < this.replicas.length; rung += 2){
+            int colder = this.replicaAt[rung];
+            int hotter = this.replicaAt[rung + 1];
+            double exponent = (1 / this.temperatures[rung] - 1 / this.temperatures[rung + 1]) * (this.energies[hotter] - this.energies[colder]);
+            if(exponent >= 0 || random.nextDouble() < Math.exp(exponent)){
+                this.replicaAt[rung] = hotter;
+                this.replicaAt[rung + 1] = colder;
+            }
+        }
+        this.round++;
+
+        //3. Best candidate across the replicas
+        SACandidate best = this.replicas[0].getBestCandidate();
+        for(SimulatedAnnealing replica : this.replicas){
+            if(replica.getBestCandidate().calculateEnergy() > best.calculateEnergy())
+                best = replica.getBestCandidate();
+        }
+        return best;
+    }
+
+    /**
+     * View summary stats for a given state.
+     * @return IntSummaryStatistics - summary statistics of the replicas' current energies.
+     */
+    public IntSummaryStatistics getSummaryStats(){
+        return Arrays.stream(this.energies).summaryStatistics();
+    }
+}
\ No newline at end of file
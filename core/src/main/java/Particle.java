@@ -0,0 +1,82 @@
+/**
+ * Particle used to represent a Knapsack for a given position in a PSO Algorithm.
+ * The swarm keeps its particles in primitive matrices (see Swarm), a Particle is the Knapsack
+ * view of one row, used to report positions and to run the Knapsack operators on them.
+ */
+public class Particle extends Knapsack {
+
+    ///////////////////////////
+    ////    Constructors   ////
+    ///////////////////////////
+
+    /**
+     * Default Constructor.
+     */
+    public Particle(){
+        super();
+    }
+
+    /**
+     * Constructor.
+     * @param knapsackSelection - populate initial selected knapsack items
+     */
+    public Particle(Genome knapsackSelection) {
+        super();
+        setKnapsackSelection(new Genome(knapsackSelection));
+    }
+
+    /**
+     * Constructor.
+     * @param positions - packed position matrix, see Swarm.
+     * @param offset - index of the first word of the position to copy.
+     */
+    public Particle(long[] positions, int offset) {
+        super();
+        setKnapsackSelection(new Genome(Configuration.NUM_ITEMS));
+        loadPosition(positions, offset);
+    }
+
+    /**
+     * For chaining with constructor to include a randomly
+     * selected set of knapsack items.
+     * @return this
+     */
+    public Particle withRandomPositions() {
+        setKnapsackSelection(generateRandomItems());
+        return this;
+    }
+
+    /**
+     * For chaining with constructor to include a fitness 
+     * calculation.
+     * @return this
+     */
+    public Particle withFitnessCalculated() {
+        this.fitness = calculateFitness();
+        return this;
+    }
+
+    ///////////////////////////
+    ////  Matrix Transfer  ////
+    ///////////////////////////
+
+    /**
+     * Overwrite this particle with a row of a packed position matrix and recalculate its totals.
+     * The fitness is not updated.
+     * @param positions - packed position matrix.
+     * @param offset - index of the first word of the row.
+     */
+    public void loadPosition(long[] positions, int offset){
+        this.knapsackSelection.loadWords(positions, offset);
+        recalculateTotals();
+    }
+
+    /**
+     * Write this particle's position to a row of a packed position matrix.
+     * @param positions - packed position matrix.
+     * @param offset - index of the first word of the row.
+     */
+    public void storePosition(long[] positions, int offset){
+        this.knapsackSelection.storeWords(positions, offset);
+    }
+}
\ No newline at end of file
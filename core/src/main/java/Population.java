@@ -0,0 +1,548 @@
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Class used to represent and evolve a population of Chromosomes for a given GA Configuration.
+ * The population lives in an arena of two fixed-size chromosome buffers, the current generation
+ * and the next one. Offspring are written into the reused slots of the next buffer and the two
+ * buffers are swapped at the end of each generation, so a generation allocates no chromosomes.
+ */
+public class Population extends SimulationManager implements Island{
+    private PopulationConfiguration config;
+    private Chromosome[] population;
+    private Chromosome[] offspring;
+    private final Chromosome[] elite;
+    private Chromosome fittest;
+
+    //Reused working storage for selection and pairing, indices into the current generation.
+    private final int[] parents;
+    private final boolean[] crossover;
+    private final double[] cumulativeProbabilities;
+    private final double[] aliasProbability;
+    private final int[] alias;
+    private final int[] aliasSmall;
+    private final int[] aliasLarge;
+    private final PriorityQueue<Chromosome> eliteHeap;
+
+    /**
+     * Constructor.
+     * Initialize a random population of PopulationConfiguration.POPULATION_SIZE.
+     * @param config - GA configuration for this population.
+     */
+    public Population(PopulationConfiguration config) {
+        this(config, PopulationConfiguration.POPULATION_SIZE);
+    }
+
+    /**
+     * Constructor.
+     * Initialize a random population of the given size, which may be odd.
+     * @param config - GA configuration for this population.
+     * @param size - number of chromosomes in the population.
+     */
+    public Population(PopulationConfiguration config, int size) {
+        super();
+        this.config = config;
+        int numElite = (int)(size * PopulationConfiguration.ELITISM_RATIO);
+
+        this.population = initializePopulation(size);
+        this.offspring = emptyBuffer(size);
+        this.elite = emptyBuffer(numElite);
+        this.fittest = findFittest(this.population);
+
+        this.parents = new int[size];
+        this.crossover = new boolean[size / 2];
+        this.cumulativeProbabilities = new double[size];
+        this.aliasProbability = new double[size];
+        this.alias = new int[size];
+        this.aliasSmall = new int[size];
+        this.aliasLarge = new int[size];
+        this.eliteHeap = new PriorityQueue<>(Math.max(numElite, 1), Collections.reverseOrder());
+    }
+
+    /**
+     * Build and return a randomly generated population of valid Chromosomes.
+     * @return Chromosome[].
+     */
+    private Chromosome[] initializePopulation(int size) {
+        Chromosome[] initialPopulation = new Chromosome[size];
+        parallelFor(initialPopulation.length, i -> {
+            initialPopulation[i] = new Chromosome().withRandomKnapsackItems().withFitnessCalculated();
+        });
+        return initialPopulation;
+    }
+
+    /**
+     * Build a buffer of empty chromosomes to be overwritten by the operators.
+     * @return Chromosome[].
+     */
+    private static Chromosome[] emptyBuffer(int size) {
+        Chromosome[] buffer = new Chromosome[size];
+        for(int i = 0; i < size; i++){
+            buffer[i] = new Chromosome(new Genome(Configuration.NUM_ITEMS)).withFitnessCalculated();
+        }
+        return buffer;
+    }
+
+    /**
+     * Main event loop for the population.
+     * Handles the process of evolving one population to the next.
+     * Selection and elitism run serially, crossover (per parent pair) and mutation
+     * (per chromosome) run in parallel on Configuration.WORKER_POOL.
+     * No step sorts the population, the fittest chromosome is tracked while fitness is updated.
+     * The returned chromosome is a slot of the arena and is overwritten two generations later.
+     */
+    public Knapsack execute() {
+        //1. Extract The Elite
+        extractElite();
+
+        //2. Select Parents
+        selectParents(this.config.getSelectionMethod());
+
+        //3. Offspring Production
+        createOffspring(this.config.getCrossoverMethod(), this.config.getCrossoverRatio());
+
+        //4. Offspring Mutation
+        mutateOffspring(this.config.getMutationMethod(), this.config.getMutationRatio());
+
+        //5. Merge elite back in.
+        mergeElite();
+
+        //6. Update Fitness Values, tracking the fittest.
+        Chromosome fittest = this.offspring[0];
+        for(var sack : this.offspring){
+            sack.updateFitness();
+            if(sack.getFitness() > fittest.getFitness())
+                fittest = sack;
+        }
+        this.fittest = fittest;
+
+        //7. The offspring become the current generation, the old generation's slots are reused next time.
+        Chromosome[] previousGeneration = this.population;
+        this.population = this.offspring;
+        this.offspring = previousGeneration;
+
+        //Validation, can be enabled with the java -enableassertions flag.
+        assert(containsElite());
+        assert(this.population.length == this.parents.length);
+        assert(countInvalidChildren() == 0);
+
+        //Return fittest knapsack to application loop
+        return getFittestKnapsack();
+    }
+
+    ///////////////////////
+    /// Elitism Methods ///
+    ///////////////////////
+
+    /**
+     * Copy the elite of the current generation into the elite buffer.
+     */
+    private void extractElite(){
+        copyFittest(this.elite);
+    }
+
+    /**
+     * Copy the fittest chromosomes of the current generation into a buffer, least fit first.
+     * They are found with a bounded min-heap in O(n log k), without sorting the population.
+     * The heap root is the weakest of the current candidates, so each remaining
+     * chromosome costs one comparison unless it displaces the root.
+     * @param fittest - buffer to overwrite, one chromosome per slot.
+     */
+    private void copyFittest(Chromosome[] fittest){
+        if(fittest.length == 0)
+            return;
+        PriorityQueue<Chromosome> heap = this.eliteHeap;
+        for(var sack : this.population){
+            if(heap.size() < fittest.length){
+                heap.add(sack);
+            }
+            else if(sack.getFitness() > heap.peek().getFitness()){
+                heap.poll();
+                heap.add(sack);
+            }
+        }
+        for(int i = 0; i < fittest.length; i++){
+            fittest[i].copyFrom(heap.poll());
+        }
+    }
+
+    /**
+     * Ensure that the fittest individuals from the previous generation remain in the new
+     * generation in accordance with the elitism ratio. Requires randomly removing some children
+     * to maintain population size, the removed children are chosen with a partial Fisher-Yates
+     * shuffle and their slots overwritten with the elite.
+     */
+    private void mergeElite(){
+        RandomStream random = serialStream();
+        Chromosome[] offspring = this.offspring;
+        for (int i = 0; i < this.elite.length; i++){
+            int rand = i + random.nextInt(offspring.length - i);
+            Chromosome removed = offspring[rand];
+            offspring[rand] = offspring[i];
+            offspring[i] = removed;
+            removed.copyFrom(this.elite[i]);
+        }
+    }
+
+    ///////////////////////
+    ///    Migration    ///
+    ///////////////////////
+
+    /**
+     * Copies of the fittest chromosomes of the current generation, to be sent to other populations.
+     * @param count - number of migrants.
+     * @return Chromosome[] - the migrants, least fit first.
+     */
+    public Chromosome[] emigrants(int count){
+        Chromosome[] migrants = emptyBuffer(Math.min(count, this.population.length));
+        copyFittest(migrants);
+        return migrants;
+    }
+
+    /**
+     * Overwrite the least fit chromosome of the current generation with a migrant, if the migrant is fitter.
+     * @param migrant - chromosome from another population, it is copied and left unchanged.
+     */
+    public void immigrate(Knapsack migrant){
+        Chromosome weakest = this.population[0];
+        for(var sack : this.population){
+            if(sack.getFitness() < weakest.getFitness())
+                weakest = sack;
+        }
+        if(migrant.getFitness() > weakest.getFitness()){
+            weakest.copyFrom(migrant);
+            if(weakest.getFitness() > this.fittest.getFitness())
+                this.fittest = weakest;
+        }
+    }
+
+    /////////////////////////
+    /// Parent Selection  ///
+    /////////////////////////
+
+    /**
+     * Select the parents based on selection method, writing their indices to parents.
+     * @param selectionMethod - method used to select ["RWS", "RWS_ALIAS", "SUS", "TS"].
+     */
+    private void selectParents(String selectionMethod){
+        switch(selectionMethod){
+            case "RWS":
+                rouletteWheelSelect();
+                break;
+            case "RWS_ALIAS":
+                aliasRouletteWheelSelect();
+                break;
+            case "SUS":
+                stochasticUniversalSample();
+                break;
+            case "TS":
+                tournamentSelect();
+                break;
+            default:
+                throw new RuntimeException("Unknown selection method");
+        }
+    }
+
+    /**
+     * Implementation of Roulette Wheel Selection.
+     * Each spin is located on the cumulative probabilities with a binary search,
+     * so the population does not need to be sorted.
+     */
+    private void rouletteWheelSelect(){
+        RandomStream random = serialStream();
+        double[] cumulativeProbabilities = calculateCumulativeProbabilities();
+
+        for(int i = 0; i < this.parents.length; i++){
+            double spin = random.nextDouble();
+            this.parents[i] = findSlot(cumulativeProbabilities, spin);
+        }
+    }
+
+    /**
+     * Implementation of Roulette Wheel Selection using Walker's alias method.
+     * The alias table is built once per generation in O(n) (Vose's construction),
+     * after which every spin costs one index draw and one coin flip.
+     */
+    private void aliasRouletteWheelSelect(){
+        RandomStream random = serialStream();
+        int size = this.population.length;
+        double totalFitness = totalFitness();
+
+        double[] probability = this.aliasProbability;
+        int[] alias = this.alias;
+        int[] small = this.aliasSmall;
+        int[] large = this.aliasLarge;
+        int numSmall = 0;
+        int numLarge = 0;
+
+        for(int i = 0; i < size; i++){
+            probability[i] = this.population[i].getFitness() * size / totalFitness;
+            if(probability[i] < 1.0)
+                small[numSmall++] = i;
+            else
+                large[numLarge++] = i;
+        }
+
+        while(numSmall > 0 && numLarge > 0){
+            int less = small[--numSmall];
+            int more = large[--numLarge];
+            alias[less] = more;
+            probability[more] = probability[more] + probability[less] - 1.0;
+            if(probability[more] < 1.0)
+                small[numSmall++] = more;
+            else
+                large[numLarge++] = more;
+        }
+        //Leftovers are only off from 1 by rounding error.
+        while(numLarge > 0)
+            probability[large[--numLarge]] = 1.0;
+        while(numSmall > 0)
+            probability[small[--numSmall]] = 1.0;
+
+        for(int i = 0; i < this.parents.length; i++){
+            int column = random.nextInt(size);
+            this.parents[i] = random.nextDouble() < probability[column] ? column : alias[column];
+        }
+    }
+
+    /**
+     * Implementation of Stochastic Universal Sampling.
+     * A single spin places evenly spaced pointers over the cumulative probabilities,
+     * which are then collected in one pass.
+     */
+    private void stochasticUniversalSample(){
+        RandomStream random = serialStream();
+        double[] cumulativeProbabilities = calculateCumulativeProbabilities();
+        int size = this.population.length;
+        double spacing = 1.0 / this.parents.length;
+        double start = random.nextDouble() * spacing;
+
+        int slot = 0;
+        for(int i = 0; i < this.parents.length; i++){
+            double pointer = start + i * spacing;
+            while(slot < size - 1 && pointer > cumulativeProbabilities[slot])
+                slot++;
+            this.parents[i] = slot;
+        }
+    }
+
+    /**
+     * Implementation of Tournament Selection.
+     * Candidates are compared on fitness directly, so the population does not need to be sorted.
+     */
+    private void tournamentSelect(){
+        RandomStream random = serialStream();
+        Chromosome[] population = this.population;
+
+        for(int i = 0; i < this.parents.length; i++){
+            int bestCandidate = random.nextInt(population.length);
+            for(int j = 1; j < PopulationConfiguration.TOURNAMENT_SIZE; j++){
+                int candidate = random.nextInt(population.length);
+                if(population[candidate].getFitness() > population[bestCandidate].getFitness())
+                    bestCandidate = candidate;
+            }
+            this.parents[i] = bestCandidate;
+        }
+    }
+
+    //////////////////////////////
+    //// Offspring Production ////
+    //////////////////////////////
+
+    /**
+     * Create offspring by considering crossover probability and method.
+     * Parents are paired by shuffling the selected indices in place (Fisher-Yates) and
+     * taking adjacent entries as pairs, then each pair is crossed over in parallel into
+     * its two slots of the offspring buffer. With an odd number of parents the last one
+     * has no partner and is copied into the last slot unchanged.
+     */
+    private void createOffspring(String crossoverMethod, double crossoverRatio){
+        RandomStream random = serialStream();
+        int[] parents = this.parents;
+        boolean[] crossover = this.crossover;
+        int numPairs = parents.length / 2;
+
+        for(int i = parents.length - 1; i > 0; i--){
+            int j = random.nextInt(i + 1);
+            int parent = parents[i];
+            parents[i] = parents[j];
+            parents[j] = parent;
+        }
+        for(int pair = 0; pair < numPairs; pair++){
+            crossover[pair] = random.nextDouble() < crossoverRatio;
+        }
+
+        Chromosome[] population = this.population;
+        Chromosome[] children = this.offspring;
+        if(parents.length % 2 == 1){
+            children[parents.length - 1].copyFrom(population[parents[parents.length - 1]]);
+        }
+        parallelFor(numPairs, pair -> {
+            Chromosome parent1 = population[parents[2 * pair]];
+            Chromosome parent2 = population[parents[2 * pair + 1]];
+            if (crossover[pair]) {
+                parent1.doCrossover(parent2, crossoverMethod, children[2 * pair], children[2 * pair + 1]);
+            }
+            else{
+                children[2 * pair].copyFrom(parent1);
+                children[2 * pair + 1].copyFrom(parent2);
+            }
+        });
+    }
+
+    ////////////////////////////
+    //// Offspring Mutation ////
+    ////////////////////////////
+
+    /**
+     * Mutate offspring beased on the mutation method and mutation ratio.
+     * Each chromosome is mutated independently and in place, in parallel.
+     * If the configuration enables repair, each child is then greedily repaired and improved.
+     * @param mutationMethod - method used to mutate ["BFM", "IVM", "ISM", "DPM", "EXM"].
+     * @param mutationRatio - probability of mutation.
+     */
+    private void mutateOffspring(String mutationMethod, double mutationRatio){
+        Chromosome[] children = this.offspring;
+        boolean repair = this.config.isRepairEnabled();
+
+        parallelFor(children.length, i -> {
+            double mutationProbability = RandomStreams.current().nextDouble();
+            if(mutationProbability < mutationRatio)
+                mutate(children[i], mutationMethod);
+            if(repair)
+                children[i].repairAndImprove();
+        });
+    }
+
+    /**
+     * Apply a mutation operator to a chromosome in place.
+     * @param sack - chromosome to mutate.
+     * @param mutationMethod - method used to mutate ["BFM", "IVM", "ISM", "DPM", "EXM"].
+     * @return boolean - whether a valid mutation was applied.
+     */
+    private static boolean mutate(Chromosome sack, String mutationMethod){
+        switch(mutationMethod){
+            case "BFM":
+                return sack.doBitFlipMutation();
+            case "IVM":
+                return sack.doInversionMutation();
+            case "ISM":
+                return sack.doInsertionMutation();
+            case "DPM":
+                return sack.doDisplacementMutation();
+            case "EXM":
+                return sack.doExchangeMutation();
+            default:
+                throw new RuntimeException("Unknown mutation method");
+        }
+    }
+
+    //////////////////////
+    /// Helper Methods ///
+    //////////////////////
+
+    /**
+     * Sum of the fitness of the current generation.
+     * @return int - total fitness.
+     */
+    private int totalFitness(){
+        int totalFitness = 0;
+        for(var sack : this.population){
+            totalFitness += sack.getFitness();
+        }
+        return totalFitness;
+    }
+
+    /**
+     * Cumulative selection probabilities of the current generation, proportional to fitness.
+     * @return double[] - prefix sums of the selection probabilities.
+     */
+    private double[] calculateCumulativeProbabilities(){
+        int totalFitness = totalFitness();
+        double[] cumulativeProbabilities = this.cumulativeProbabilities;
+        double probabilitySum = 0;
+        for(int i = 0; i < cumulativeProbabilities.length; i++){
+            probabilitySum += this.population[i].getFitness()/(double)totalFitness;
+            cumulativeProbabilities[i] = probabilitySum;
+        }
+        return cumulativeProbabilities;
+    }
+
+    /**
+     * Binary search for the first slot whose cumulative probability covers the spin.
+     * Spins beyond the last slot, possible through rounding, land on the last slot.
+     * @return int - index of the selected chromosome.
+     */
+    private static int findSlot(double[] cumulativeProbabilities, double spin){
+        int low = 0;
+        int high = cumulativeProbabilities.length - 1;
+        while(low < high){
+            int mid = (low + high) >>> 1;
+            if(spin <= cumulativeProbabilities[mid])
+                high = mid;
+            else
+                low = mid + 1;
+        }
+        return low;
+    }
+
+    /**
+     * Linear scan for the fittest Chromosome in a population.
+     * @return Chromosome - fittest chromosome
+     */
+    private static Chromosome findFittest(Chromosome[] population){
+        Chromosome fittest = population[0];
+        for(var sack : population){
+            if(sack.getFitness() > fittest.getFitness())
+                fittest = sack;
+        }
+        return fittest;
+    }
+
+    /**
+     * Return the fittest Chromosome in the population, as tracked during the last generation.
+     * @return Chromosome - fittest chromosome
+     */
+    public Chromosome getFittestKnapsack(){
+        return this.fittest;
+    }
+
+    /**
+     * View summary stats for a given population state.
+     * @return IntSummaryStatistics - summary statistics.
+     */
+    public IntSummaryStatistics getSummaryStats(){
+        return Arrays.stream(this.population).mapToInt((x) -> x.getFitness()).summaryStatistics();
+    }
+
+    /**
+     * Debugging method.
+     * Should always return 0 unless there is a bug.
+     */
+    private int countInvalidChildren(){
+        return (int)Arrays.stream(this.population).filter(k -> !k.isValid()).count();
+    }
+
+    /**
+     * Debugging method.
+     * The elite are merged into the first slots of the new generation.
+     */
+    private boolean containsElite(){
+        for(int i = 0; i < this.elite.length; i++){
+            if(!this.population[i].getKnapsackSelection().equals(this.elite[i].getKnapsackSelection()))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Get the population
+     * @return List<Chromosome> - view of the current generation.
+     */
+    public List<Chromosome> getPopulation(){
+        return Arrays.asList(this.population);
+    }
+}
\ No newline at end of file
@@ -1,9 +1,4 @@
-import java.util.List;
-import java.util.Arrays;
-import java.util.Scanner;
-import java.util.stream.Collectors;
-import java.io.File;
-import java.io.IOException;
+import java.util.Map;
 
 /**
  * Config specific to Genetic Algorithms (GA).
@@ -38,33 +33,15 @@ public class PopulationConfiguration extends Configuration {
      * @param fileName - containing config data
      */
     @Override
-    protected void loadConfig (String fileName){
-        fileName = GA_PATH + fileName;
-        File file = new File(fileName);
-        try {
-            Scanner sc = new Scanner(file); 
-            String line = sc.nextLine();
-            List<List<String>> list = Arrays.asList(line.split(","))
-                .stream()
-                .map(s -> Arrays.asList(s.split(":"))
-                    .stream()
-                    .map(n -> n.replaceAll("[^a-zA-Z0-9_.]", ""))
-                    .collect(Collectors.toList())
-                )
-                .collect(Collectors.toList());
-
-            this.selectionMethod = list.get(0).get(1);
-            this.configuration = list.get(1).get(1);
-            this.mutationRatio = Double.parseDouble(list.get(2).get(1));
-            this.crossoverRatio = Double.parseDouble(list.get(3).get(1));
-            this.crossoverMethod = list.get(4).get(1);
-            this.mutationMethod = list.get(5).get(1);
-            sc.close();
-        } 
-        catch(IOException e) {
-            e.printStackTrace();
-            System.exit(1);
-        }
+    protected void loadConfig(String fileName){
+        Map<String, String> json = readJson(GA_PATH + fileName);
+        this.selectionMethod = json.get("selection_method");
+        this.configuration = json.get("configuration");
+        this.mutationRatio = Double.parseDouble(json.get("mutation_ratio"));
+        this.crossoverRatio = Double.parseDouble(json.get("crossover_ratio"));
+        this.crossoverMethod = json.get("crossover_method");
+        this.mutationMethod = json.get("mutation_method");
+        this.repair = Boolean.parseBoolean(json.getOrDefault("repair", "false"));
     }
 
     public String getSelectionMethod() {
@@ -95,7 +72,8 @@ public class PopulationConfiguration extends Configuration {
         return "GA" + " | #" + Configuration.MAX_ITERATIONS + " | " 
             + this.selectionMethod + " | " 
             + this.crossoverMethod + " (" + this.crossoverRatio + ")" + " | " 
-            + this.mutationMethod + " (" + this.mutationRatio + ")";
+            + this.mutationMethod + " (" + this.mutationRatio + ")"
+            + (this.repair ? " | repair" : "");
     }
 
     public int getNumConfigurations(){
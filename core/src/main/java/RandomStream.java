@@ -0,0 +1,54 @@
+import java.util.random.RandomGenerator;
+
+/**
+ * SplitMix64 random number generator.
+ * A stream is cheap to create and reseed, so each thread or unit of work can own
+ * its own stream derived from the master seed instead of sharing one generator.
+ * Not thread safe, a stream must only be used by one thread at a time.
+ */
+public final class RandomStream implements RandomGenerator {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private long state;
+
+    /**
+     * Constructor.
+     * @param seed - initial seed.
+     */
+    public RandomStream(long seed){
+        this.state = seed;
+    }
+
+    /**
+     * Restart the stream from a new seed.
+     * @param seed - new seed.
+     */
+    public void reseed(long seed){
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong(){
+        this.state += GOLDEN_GAMMA;
+        return mix64(this.state);
+    }
+
+    /**
+     * Derive the seed of an independent sub-stream, e.g. for a worker, a run or a replicate.
+     * Keys can be chained: seedFor(seedFor(seed, generation), index).
+     * @param seed - parent seed.
+     * @param key - identifies the sub-stream.
+     * @return long - seed for the sub-stream.
+     */
+    public static long seedFor(long seed, long key){
+        return mix64(seed ^ mix64(key * GOLDEN_GAMMA + GOLDEN_GAMMA));
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix64(long z){
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
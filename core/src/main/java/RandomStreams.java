@@ -0,0 +1,36 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Provides each thread with its own RandomStream.
+ * Streams are derived from Configuration.MASTER_SEED so that no generator is ever
+ * shared between threads. For reproducible results a thread reseeds its stream
+ * (see reseed) at the start of each run or unit of parallel work, so the numbers
+ * drawn depend on the work being done and not on which thread happens to do it.
+ */
+public final class RandomStreams {
+    private static final AtomicLong THREAD_COUNTER = new AtomicLong();
+    private static final ThreadLocal<RandomStream> STREAMS = ThreadLocal.withInitial(
+        () -> new RandomStream(RandomStream.seedFor(Configuration.MASTER_SEED, THREAD_COUNTER.getAndIncrement()))
+    );
+
+    private RandomStreams(){}
+
+    /**
+     * The calling thread's random stream.
+     * @return RandomStream - stream owned by this thread.
+     */
+    public static RandomStream current(){
+        return STREAMS.get();
+    }
+
+    /**
+     * Reseed the calling thread's random stream.
+     * @param seed - new seed, normally derived with RandomStream.seedFor.
+     * @return RandomStream - the reseeded stream.
+     */
+    public static RandomStream reseed(long seed){
+        RandomStream stream = STREAMS.get();
+        stream.reseed(seed);
+        return stream;
+    }
+}
@@ -0,0 +1,244 @@
+import java.util.random.RandomGenerator;
+
+/**
+ * Candidate Solution for Simulated Annealing algorithm
+ * Besides the selection, the candidate keeps its items partitioned into selected and
+ * unselected index sets: items[0, numSelected) are selected, the rest are not, and
+ * positions maps each item to its slot. flipItem keeps the partition up to date in O(1),
+ * so every item operator and the repair operators maintain it for free.
+ * Flips made since beginMove are logged so a rejected move can be undone in place.
+ */
+public class SACandidate extends Knapsack{
+    private final int[] items = new int[Configuration.NUM_ITEMS];
+    private final int[] positions = new int[Configuration.NUM_ITEMS];
+    private int numSelected;
+
+    //A move has at most four stages that each flip an item at most once: removals then additions
+    //(or a swap or flip of distinct items), then repair, which only drops, and improve, which only adds.
+    private final int[] moveLog = new int[4 * Configuration.NUM_ITEMS];
+    private int moveLength;
+
+    /**
+     * Default constructor
+     */
+    public SACandidate(){}
+
+    /**
+     * Constructor.
+     * @param knapsackSelection - populate initial selected knapsack items
+     */
+    public SACandidate(Genome knapsackSelection) {
+        super();
+        setKnapsackSelection(new Genome(knapsackSelection));
+    }
+
+    /**
+     * Copy constructor.
+     * @param candidate - candidate to copy.
+     */
+    public SACandidate(SACandidate candidate) {
+        super(candidate);
+        indexItems();
+    }
+
+    /**
+     * For chaining with constructor to include a randomly
+     * selected set of knapsack items.
+     * @return this
+     */
+    public SACandidate withRandomlySelectedItems() {
+        setKnapsackSelection(generateRandomItems());
+        return this;
+    }
+
+    /**
+     * For chaining with constructor to include a fitness
+     * calculation.
+     * @return this
+     */
+    public SACandidate withFitnessCalculated() {
+        this.fitness = calculateFitness();
+        return this;
+    }
+
+    public int calculateEnergy(){
+        return calculateFitness();
+    }
+
+    ///////////////////////////
+    ////     SA Moves      ////
+    ///////////////////////////
+
+    /**
+     * Start logging flips for a new move.
+     * Every flip is logged until the next beginMove, so each move must begin with one.
+     */
+    public void beginMove(){
+        this.moveLength = 0;
+    }
+
+    /**
+     * Undo every flip made since beginMove, newest first, and update the fitness.
+     */
+    public void undoMove(){
+        while(this.moveLength > 0){
+            int item = this.moveLog[--this.moveLength];
+            super.flipItem(item);
+            reindexItem(item);
+        }
+        updateFitness();
+    }
+
+    /**
+     * Whether the current move has changed the candidate at all.
+     */
+    public boolean hasMoved(){
+        return this.moveLength > 0;
+    }
+
+    /**
+     * Remove one selected item chosen uniformly at random. O(1).
+     * @param random - source of the choice.
+     */
+    public void removeRandomItem(RandomGenerator random){
+        int item = randomSelectedItem(random);
+        if(item >= 0)
+            flipItem(item);
+    }
+
+    /**
+     * Add one unselected item chosen uniformly at random, whether or not it fits. O(1).
+     * @param random - source of the choice.
+     */
+    public void addRandomItem(RandomGenerator random){
+        int item = randomUnselectedItem(random);
+        if(item >= 0)
+            flipItem(item);
+    }
+
+    /**
+     * Exchange a random selected item for a random unselected one. O(1).
+     * @param random - source of the choice.
+     * @param feasibleOnly - leave the candidate unchanged if the exchange would overfill it.
+     */
+    public void swapRandomItems(RandomGenerator random, boolean feasibleOnly){
+        int selected = randomSelectedItem(random);
+        int unselected = randomUnselectedItem(random);
+        if(selected < 0 || unselected < 0)
+            return;
+        if(!feasibleOnly || isValidWith(flipWeightDelta(selected) + flipWeightDelta(unselected))){
+            flipItem(selected);
+            flipItem(unselected);
+        }
+    }
+
+    /**
+     * Flip one item chosen uniformly at random. O(1).
+     * @param random - source of the choice.
+     * @param feasibleOnly - leave the candidate unchanged if the flip would overfill it.
+     */
+    public void flipRandomItem(RandomGenerator random, boolean feasibleOnly){
+        int item = random.nextInt(this.items.length);
+        if(!feasibleOnly || isValidWith(flipWeightDelta(item)))
+            flipItem(item);
+    }
+
+    /**
+     * Visit the unselected items in random order and add each one that still fits.
+     * The visit order is a partial Fisher-Yates shuffle of the unselected slots, which
+     * stops as soon as the remaining capacity is below the lightest item.
+     * @param random - source of the visit order.
+     */
+    public void addRandomItems(RandomGenerator random){
+        int minimumWeight = Configuration.ITEM_CATALOG.getMinimumWeight();
+        //Unselected items in [numSelected, next) have been visited, those in [next, length) have not.
+        for(int next = this.numSelected; next < this.items.length && Configuration.MAX_CAPACITY - this.weight > minimumWeight; next++){
+            int item = this.items[next + random.nextInt(this.items.length - next)];
+            swapSlots(next, this.positions[item]);
+            if(isValidWith(Configuration.ITEM_CATALOG.weight(item)))
+                flipItem(item);
+        }
+    }
+
+    /**
+     * Toggle a single item, moving it across the selected/unselected partition and logging it.
+     */
+    @Override
+    public void flipItem(int index){
+        super.flipItem(index);
+        reindexItem(index);
+        this.moveLog[this.moveLength++] = index;
+    }
+
+    /**
+     * Overwrite this candidate with another knapsack and rebuild the index sets.
+     */
+    @Override
+    public void copyFrom(Knapsack other){
+        super.copyFrom(other);
+        indexItems();
+    }
+
+    @Override
+    protected void setKnapsackSelection(Genome knapsackSelection){
+        super.setKnapsackSelection(knapsackSelection);
+        indexItems();
+    }
+
+    ////////////////////////
+    //// Helper Methods ////
+    ////////////////////////
+
+    /**
+     * Rebuild the selected/unselected partition from the selection.
+     */
+    private void indexItems(){
+        this.numSelected = 0;
+        int numUnselected = 0;
+        for(int item = 0; item < this.items.length; item++){
+            int slot = this.knapsackSelection.get(item) ? this.numSelected++ : this.items.length - ++numUnselected;
+            this.items[slot] = item;
+            this.positions[item] = slot;
+        }
+        this.moveLength = 0;
+    }
+
+    /**
+     * Move a flipped item to the edge of the partition on its new side and grow or shrink
+     * the selected set over it.
+     */
+    private void reindexItem(int item){
+        if(this.knapsackSelection.get(item)){
+            swapSlots(this.positions[item], this.numSelected);
+            this.numSelected++;
+        }
+        else{
+            this.numSelected--;
+            swapSlots(this.positions[item], this.numSelected);
+        }
+    }
+
+    /**
+     * @return int - a selected item chosen uniformly at random, -1 if there is none.
+     */
+    private int randomSelectedItem(RandomGenerator random){
+        return this.numSelected > 0 ? this.items[random.nextInt(this.numSelected)] : -1;
+    }
+
+    /**
+     * @return int - an unselected item chosen uniformly at random, -1 if there is none.
+     */
+    private int randomUnselectedItem(RandomGenerator random){
+        int numUnselected = this.items.length - this.numSelected;
+        return numUnselected > 0 ? this.items[this.numSelected + random.nextInt(numUnselected)] : -1;
+    }
+
+    private void swapSlots(int slot1, int slot2){
+        int item1 = this.items[slot1];
+        int item2 = this.items[slot2];
+        this.items[slot1] = item2;
+        this.items[slot2] = item1;
+        this.positions[item2] = slot1;
+        this.positions[item1] = slot2;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,270 @@
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+
+/**
+ * Simulated Annealing Simulation Manager
+ * Moves are made on the current candidate in place: a neighbour is proposed by applying it,
+ * and undone from the candidate's move log if it is rejected. No candidate is allocated per move.
+ * The fixed schedule cools geometrically by the cooling rate, stops once the temperature drops
+ * below 1, and always makes remove-one/refill moves.
+ * The adaptive schedule runs for every iteration. Each move nudges the temperature by the cooling
+ * rate so that the observed acceptance rate follows a target that falls over the run (the modified
+ * Lam schedule), and the search reheats from the best candidate after reheat_after iterations without
+ * a new best. Moves are drawn from a portfolio of k-remove refill, swap and bit flip, each in proportion
+ * to how often it has recently been accepted.
+ */
+public class SimulatedAnnealing extends SimulationManager{
+    //Moves in the adaptive portfolio.
+    private static final int REFILL = 0;
+    private static final int SWAP = 1;
+    private static final int FLIP = 2;
+    private static final int NUM_MOVES = 3;
+    private static final int MAX_ITEMS_TO_REMOVE = 3;
+    //Every move keeps at least this chance of being drawn.
+    private static final double MIN_MOVE_PROBABILITY = 0.1;
+    //Weight of the latest move in the running acceptance rates, about one over the window length.
+    private static final double RATE_SMOOTHING = 0.01;
+    private static final double REHEAT_FACTOR = 10;
+
+    private final double initialTemperature;
+    private final double coolingRate;
+    private final boolean repair;
+    private final boolean adaptive;
+    private final int reheatAfter;
+    private final SACandidate bestCandidate;
+    private final SACandidate candidate;
+    private double temperature;
+    private final int numItemsToRemove = 1;
+    private int iteration;
+    private int lastImprovement;
+    private double acceptanceRate = 1;
+    private final double[] moveAcceptanceRates = new double[NUM_MOVES];
+
+    /**
+     * Constructor.
+     * Initialize a random confiuration.
+     * @param config - SA configuration for this SA Instance.
+     */
+    public SimulatedAnnealing(SimulatedAnnealingConfiguration config) {
+        this.initialTemperature = config.getInitialTemperature();
+        this.temperature = config.getInitialTemperature();
+        this.coolingRate = config.getCoolingRate();
+        this.repair = config.isRepairEnabled();
+        this.adaptive = config.isAdaptive();
+        this.reheatAfter = config.getReheatAfter();
+        this.candidate = new SACandidate().withRandomlySelectedItems().withFitnessCalculated();
+        this.bestCandidate = new SACandidate(this.candidate);
+        Arrays.fill(this.moveAcceptanceRates, 1);
+    } 
+
+    /**
+     * Execute an iteration of Simulated Annealing.
+     * @return SACandidate - the best candidate so far, reused and overwritten by later iterations.
+     */
+    public Knapsack execute(){
+        if(!this.adaptive && this.temperature < 1)
+            return null;
+
+        int currentEnergy = this.candidate.calculateEnergy();
+        int move = this.adaptive ? chooseMove() : REFILL;
+        int newCandidateEnergy = proposeMove(move);
+
+        if(newCandidateEnergy > this.bestCandidate.calculateEnergy()){
+            this.bestCandidate.copyFrom(this.candidate);
+            this.lastImprovement = this.iteration;
+        }
+
+        if(this.adaptive){
+            adapt(move, currentEnergy, newCandidateEnergy);
+        }
+        else{
+            if(acceptanceProbability(currentEnergy, newCandidateEnergy, this.temperature) <= RandomStreams.current().nextDouble())
+                rejectMove();
+            this.temperature *= (1 - this.coolingRate);
+        }
+
+        this.iteration++;
+        return this.bestCandidate;
+    }
+
+    /**
+     * Probability of accepting the new candidate as the current candidate
+     * @return 1 if the new candidate is better, otherwise a decimal as calculated below
+     */
+    private double acceptanceProbability(int currentEnergy, int newEnergy, double temperature) {
+        if (newEnergy < currentEnergy) {
+            return 1;
+        }
+        return Math.exp((currentEnergy - newEnergy) / temperature);
+    }
+
+    /**
+     * Move the candidate to a neighbouring solution by removing SimulatedAnnealing.numItemsToRemove
+     * random items and then adding random items in until the bag cannot accept another item.
+     * Package-private so it can be benchmarked on its own.
+     * @return int - energy of the new candidate.
+     */
+    int proposeMove(){
+        return proposeMove(REFILL);
+    }
+
+    /**
+     * Move the candidate to a neighbouring solution with one of the portfolio's moves.
+     * Refill removes random items, numItemsToRemove of them on the fixed schedule and one to
+     * MAX_ITEMS_TO_REMOVE on the adaptive one, then adds random items in until the bag cannot
+     * accept another item. Swap exchanges a selected item for an unselected one and flip toggles
+     * a single item, both are skipped if they would overfill the knapsack.
+     * If the configuration enables repair, refill forces a single random item in instead, swap and
+     * flip are always made, and the knapsack is then greedily repaired and improved.
+     * The move is logged so rejectMove can undo it. No allocation.
+     * @param move - one of [REFILL, SWAP, FLIP].
+     * @return int - energy of the new candidate.
+     */
+    private int proposeMove(int move){
+        RandomStream random = RandomStreams.current();
+        this.candidate.beginMove();
+        switch(move){
+            case REFILL:
+                int remove = this.adaptive ? 1 + random.nextInt(MAX_ITEMS_TO_REMOVE) : this.numItemsToRemove;
+                for(int i = 0; i < remove; i++){
+                    this.candidate.removeRandomItem(random);
+                }
+                if(this.repair)
+                    this.candidate.addRandomItem(random);
+                else
+                    this.candidate.addRandomItems(random);
+                break;
+            case SWAP:
+                this.candidate.swapRandomItems(random, !this.repair);
+                break;
+            case FLIP:
+                this.candidate.flipRandomItem(random, !this.repair);
+                break;
+            default:
+                throw new RuntimeException("Unknown move");
+        }
+        if(this.repair)
+            this.candidate.repairAndImprove();
+        else
+            this.candidate.updateFitness();
+        return this.candidate.calculateEnergy();
+    }
+
+    /**
+     * Return the candidate to where it was before the last proposeMove.
+     * Package-private so it can be benchmarked on its own.
+     */
+    void rejectMove(){
+        this.candidate.undoMove();
+    }
+
+    /**
+     * Make a batch of moves at a fixed temperature, each accepted with the Metropolis criterion.
+     * The schedule is left alone: used by ParallelTempering, which owns the temperatures.
+     * @param temperature - temperature of the batch.
+     * @param moves - number of moves to make.
+     * @return int - energy of the candidate after the batch.
+     */
+    int sample(double temperature, int moves){
+        for(int i = 0; i < moves; i++){
+            int currentEnergy = this.candidate.calculateEnergy();
+            int move = this.adaptive ? chooseMove() : REFILL;
+            int newCandidateEnergy = proposeMove(move);
+            if(newCandidateEnergy > this.bestCandidate.calculateEnergy())
+                this.bestCandidate.copyFrom(this.candidate);
+            metropolis(move, currentEnergy, newCandidateEnergy, temperature);
+        }
+        return this.candidate.calculateEnergy();
+    }
+
+    /**
+     * @return SACandidate - the best candidate so far, reused and overwritten by later moves.
+     */
+    SACandidate getBestCandidate(){
+        return this.bestCandidate;
+    }
+
+    ///////////////////////////
+    //// Adaptive Schedule ////
+    ///////////////////////////
+
+    /**
+     * Accept or reject the proposed move, then steer the temperature towards the target
+     * acceptance rate and reheat on stagnation.
+     */
+    private void adapt(int move, int currentEnergy, int newEnergy){
+        boolean moved = this.candidate.hasMoved();
+        boolean accepted = metropolis(move, currentEnergy, newEnergy, this.temperature);
+        if(moved){
+            this.acceptanceRate += RATE_SMOOTHING * ((accepted ? 1 : 0) - this.acceptanceRate);
+            if(this.acceptanceRate > targetAcceptanceRate((double)this.iteration / Configuration.MAX_ITERATIONS))
+                this.temperature *= (1 - this.coolingRate);
+            else
+                this.temperature = Math.min(this.initialTemperature, this.temperature / (1 - this.coolingRate));
+        }
+
+        if(this.iteration - this.lastImprovement >= this.reheatAfter){
+            this.candidate.copyFrom(this.bestCandidate);
+            this.temperature = Math.min(this.initialTemperature, this.temperature * REHEAT_FACTOR);
+            this.lastImprovement = this.iteration;
+        }
+    }
+
+    /**
+     * Accept or reject the proposed move with the Metropolis criterion at the given temperature,
+     * undoing it if rejected, and update the move's running acceptance rate.
+     * A move that left the candidate unchanged counts as rejected.
+     * @return true if the move was accepted.
+     */
+    private boolean metropolis(int move, int currentEnergy, int newEnergy, double temperature){
+        boolean accepted = this.candidate.hasMoved() && (newEnergy >= currentEnergy
+            || RandomStreams.current().nextDouble() < Math.exp((newEnergy - currentEnergy) / temperature));
+        if(!accepted)
+            rejectMove();
+        this.moveAcceptanceRates[move] += RATE_SMOOTHING * ((accepted ? 1 : 0) - this.moveAcceptanceRates[move]);
+        return accepted;
+    }
+
+    /**
+     * Draw a move with probability MIN_MOVE_PROBABILITY plus a share of the rest
+     * proportional to its running acceptance rate.
+     * @return int - one of [REFILL, SWAP, FLIP].
+     */
+    private int chooseMove(){
+        double total = 0;
+        for(double rate : this.moveAcceptanceRates){
+            total += rate;
+        }
+        double spin = RandomStreams.current().nextDouble();
+        for(int move = 0; move < NUM_MOVES - 1; move++){
+            double share = total > 0 ? this.moveAcceptanceRates[move] / total : 1.0 / NUM_MOVES;
+            spin -= MIN_MOVE_PROBABILITY + (1 - NUM_MOVES * MIN_MOVE_PROBABILITY) * share;
+            if(spin < 0)
+                return move;
+        }
+        return NUM_MOVES - 1;
+    }
+
+    /**
+     * Target acceptance rate of the modified Lam schedule: it falls from 1 to 0.44 over the first
+     * 15% of the run, holds at 0.44 until 65%, then falls off exponentially towards 0.
+     * @param progress - fraction of Configuration.MAX_ITERATIONS done.
+     */
+    private static double targetAcceptanceRate(double progress){
+        if(progress < 0.15)
+            return 0.44 + 0.56 * Math.pow(560, -progress / 0.15);
+        if(progress < 0.65)
+            return 0.44;
+        return 0.44 * Math.pow(440, -(progress - 0.65) / 0.35);
+    }
+
+    /**
+     * View summary stats for a given population state.
+     * @return IntSummaryStatistics - summary statistics.
+     * Note: This doesn't work well for SA. Here, count is the temperature rounded up, min is the candidate fitness,
+     * max is the bestCandidate fitness and sum=0.
+     */
+    public IntSummaryStatistics getSummaryStats(){
+        return new IntSummaryStatistics((long)Math.ceil(this.temperature), this.candidate.calculateFitness(), this.bestCandidate.calculateFitness(), 0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+import java.util.Map;
+
+/**
+ * Config specific to Simulated Annealing (SA).
+ */
+public class SimulatedAnnealingConfiguration extends Configuration {
+    public static final String PSO_PATH = "data/configuration/sa/";
+    public static final int NUM_CONFIGURATIONS = 25; 
+    public static final int MIN_TEMPERATURE = 1;
+    public static final int DEFAULT_REHEAT_AFTER = 1000;
+    public static final int DEFAULT_EXCHANGE_INTERVAL = 10;
+    private double initialTemperature;
+    private double coolingRate;
+    private boolean adaptive;
+    private int reheatAfter;
+    private int replicas;
+    private int exchangeInterval;
+
+    /**
+     * Constructor
+     * @param fileName - containing config data
+     */
+    public SimulatedAnnealingConfiguration(String fileName){
+        super();
+        loadConfig(fileName);
+    }
+
+    /**
+     * String representation of configuration for report.
+     */
+    public String toString(){
+        return "SA" + " | #" + Configuration.MAX_ITERATIONS + " | " + "initial_temp: " + this.initialTemperature + " | " + "cooling_rate " + this.coolingRate
+            + (this.adaptive ? " | adaptive | reheat_after: " + this.reheatAfter : "")
+            + (this.replicas > 1 ? " | replicas: " + this.replicas + " | exchange_interval: " + this.exchangeInterval : "")
+            + (this.repair ? " | repair" : "");
+    }
+
+    /**
+     * Parse the JSON file and load the necessary config data
+     * @param fileName - containing config data
+     */
+    @Override
+    protected void loadConfig(String fileName){
+        Map<String, String> json = readJson(PSO_PATH + fileName);
+        this.initialTemperature = Double.parseDouble(json.get("initial_temperature"));
+        this.coolingRate = Double.parseDouble(json.get("cooling_rate"));
+        this.adaptive = Boolean.parseBoolean(json.getOrDefault("adaptive", "false"));
+        this.reheatAfter = Integer.parseInt(json.getOrDefault("reheat_after", DEFAULT_REHEAT_AFTER + ""));
+        this.replicas = Integer.parseInt(json.getOrDefault("replicas", "1"));
+        this.exchangeInterval = Integer.parseInt(json.getOrDefault("exchange_interval", DEFAULT_EXCHANGE_INTERVAL + ""));
+        this.repair = Boolean.parseBoolean(json.getOrDefault("repair", "false"));
+    }
+
+    public int getNumConfigurations(){
+        return SimulatedAnnealingConfiguration.NUM_CONFIGURATIONS;
+    }
+
+    public double getInitialTemperature() {
+        return this.initialTemperature;
+    }
+
+    public double getCoolingRate() {
+        return this.coolingRate;
+    }
+
+    /**
+     * Whether the temperature follows the observed acceptance rate instead of the fixed geometric
+     * schedule, see SimulatedAnnealing. Set by the optional "adaptive" key, off by default.
+     */
+    public boolean isAdaptive() {
+        return this.adaptive;
+    }
+
+    /**
+     * Iterations without a new best after which the adaptive schedule reheats.
+     * Set by the optional "reheat_after" key.
+     */
+    public int getReheatAfter() {
+        return this.reheatAfter;
+    }
+
+    /**
+     * Number of parallel tempering replicas, set by the optional "replicas" key.
+     * More than one runs ParallelTempering instead of a single SimulatedAnnealing chain.
+     */
+    public int getReplicas() {
+        return this.replicas;
+    }
+
+    /**
+     * Moves each parallel tempering replica makes between exchange attempts.
+     * Set by the optional "exchange_interval" key.
+     */
+    public int getExchangeInterval() {
+        return this.exchangeInterval;
+    }
+    
+
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+import java.util.IntSummaryStatistics;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Parent of Swarm (PSO), Simulated Annealing (SA), and Population (GA)
+ */
+public abstract class SimulationManager {
+    protected final long seed;
+    private long step;
+
+    /**
+     * Constructor.
+     * Draws this simulation's seed from the calling thread's random stream.
+     */
+    protected SimulationManager(){
+        this.seed = RandomStreams.current().nextLong();
+    }
+
+    public abstract Knapsack execute();
+
+    /**
+     * View summary stats for a given population state.
+     * @return IntSummaryStatistics - summary statistics.
+     */
+    public abstract IntSummaryStatistics getSummaryStats();
+
+    /**
+     * Reseed the calling thread's random stream for the next serial step of the simulation.
+     * @return RandomStream - the reseeded stream.
+     */
+    protected RandomStream serialStream(){
+        return RandomStreams.reseed(RandomStream.seedFor(this.seed, this.step++));
+    }
+
+    /**
+     * Run body for every index in [0, count) on Configuration.WORKER_POOL.
+     * Each index reseeds its thread's random stream from this simulation's seed, the
+     * step and the index, so results are the same whatever the number of threads.
+     * The calling thread may run some of the work itself, so its stream is left
+     * reseeded from the step as well.
+     * @param count - number of indices.
+     * @param body - work for a single index, must only write state owned by that index.
+     */
+    protected void parallelFor(int count, IntConsumer body){
+        long stepSeed = RandomStream.seedFor(this.seed, this.step++);
+        IntConsumer seededBody = i -> {
+            RandomStreams.reseed(RandomStream.seedFor(stepSeed, i));
+            body.accept(i);
+        };
+        if(Configuration.NUM_THREADS == 1){
+            IntStream.range(0, count).forEach(seededBody);
+        }
+        else{
+            Configuration.WORKER_POOL.submit(() -> IntStream.range(0, count).parallel().forEach(seededBody)).join();
+        }
+        RandomStreams.reseed(RandomStream.seedFor(stepSeed, count));
+    }
+
+    /**
+     * Parallel reduction for the index in [0, count) with the highest score, on Configuration.WORKER_POOL.
+     * Ties go to the lowest index, so the result does not depend on the number of threads.
+     * Does not use the random streams.
+     * @param count - number of indices, at least 1.
+     * @param score - score of a single index, must only read state.
+     * @return int - index with the highest score.
+     */
+    protected int parallelArgMax(int count, IntUnaryOperator score){
+        IntStream indices = IntStream.range(0, count);
+        if(Configuration.NUM_THREADS == 1)
+            return indices.reduce((a, b) -> score.applyAsInt(b) > score.applyAsInt(a) ? b : a).getAsInt();
+        return Configuration.WORKER_POOL.submit(() -> indices.parallel()
+            .reduce((a, b) -> score.applyAsInt(b) > score.applyAsInt(a) ? b : a)
+            .getAsInt()).join();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,446 @@
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+
+/**
+ * Class used to represent and evolve a population of Particles for a given PSO
+ * Configuration.
+ * The swarm is stored as primitive matrices with one row per particle: velocities as
+ * numParticles x NUM_ITEMS doubles, positions and personal best positions as packed bitsets
+ * of numParticles x WORDS longs. Each update walks one row front to back, so the loops are
+ * free of boxing and simple enough for the JIT to unroll.
+ * Particles are updated in parallel on Configuration.WORKER_POOL, each only writes its own rows.
+ * Each particle is guided by the best personal best in its neighbourhood. With the global topology
+ * that is the swarm's best, the local topologies (ring, von Neumann, random) keep every
+ * particle's neighbour indices precomputed in one flat array, neighbourhoodSize per particle.
+ * Local topologies double-buffer the personal bests: neighbours are read from the previous
+ * generation while each particle writes its own row of the next, so one pass needs no barrier.
+ */
+public class Swarm extends SimulationManager implements Island{
+    private static final int DIMENSIONS = Configuration.NUM_ITEMS;
+    private static final int WORDS = Genome.wordsFor(DIMENSIONS);
+
+    //Sigmoid lookup table over [-SIGMOID_LIMIT, SIGMOID_LIMIT] with SIGMOID_RESOLUTION entries per unit.
+    //Beyond the limit the sigmoid is within 1e-6 of 0 or 1.
+    private static final int SIGMOID_LIMIT = 16;
+    private static final int SIGMOID_RESOLUTION = 128;
+    private static final double[] SIGMOID_TABLE = buildSigmoidTable();
+
+    //Each thread evaluates the particles it updates through its own Knapsack view.
+    private static final ThreadLocal<Particle> PARTICLE_VIEW = ThreadLocal.withInitial(() -> new Particle(new long[WORDS], 0));
+
+    //Informants drawn per particle by the random topology, in addition to the particle itself.
+    private static final int RANDOM_INFORMANTS = 3;
+
+    private final SwarmConfiguration config;
+    private final int numParticles;
+    private final double[] velocities;
+    private final long[] positions;
+    private long[] bestPositions;
+    private final int[] fitness;
+    private int[] bestFitness;
+    //Personal bests of the previous generation, read by neighbours. Only used by local topologies.
+    private long[] previousBestPositions;
+    private int[] previousBestFitness;
+    private final long[] globalBestPosition;
+    private int globalBestValue;
+    private final Particle globalBest;
+    private final boolean globalTopology;
+    private final boolean randomTopology;
+    private final int neighbourhoodSize;
+    private final int[] neighbours;
+
+    /**
+     * Constructor.
+     * Initialize a random swarm.
+     * @param config - PSO configuration for this swarm.
+     */
+    public Swarm(SwarmConfiguration config) {
+        super();
+        this.config = config;
+        this.numParticles = config.getNumParticles();
+        this.velocities = new double[this.numParticles * DIMENSIONS];
+        this.positions = new long[this.numParticles * WORDS];
+        this.bestPositions = new long[this.numParticles * WORDS];
+        this.fitness = new int[this.numParticles];
+        this.bestFitness = new int[this.numParticles];
+        this.globalBestPosition = new long[WORDS];
+        this.globalBest = new Particle(this.globalBestPosition, 0);
+        this.globalTopology = config.getTopology().equals("global");
+        this.randomTopology = config.getTopology().equals("random");
+        if(!this.globalTopology){
+            this.previousBestPositions = new long[this.numParticles * WORDS];
+            this.previousBestFitness = new int[this.numParticles];
+        }
+        this.neighbourhoodSize = neighbourhoodSize(config.getTopology());
+        this.neighbours = new int[this.numParticles * this.neighbourhoodSize];
+        initializeNeighbours(config.getTopology());
+        initializeSwarm();
+    }
+
+    /**
+     * Execute an iteration of the PSO algorithm
+     * @return Particle - the optimal particle, reused and overwritten by later iterations.
+     */
+    public Particle execute(){
+        return this.globalTopology ? executeGlobal() : executeLocal();
+    }
+
+    /**
+     * Iteration with the global topology, every particle is guided by the swarm's best.
+     */
+    private Particle executeGlobal(){
+        //1. Find new global best with a parallel reduction
+        int best = parallelArgMax(this.numParticles, particle -> this.fitness[particle]);
+        if(this.fitness[best] > this.globalBestValue)
+            updateGlobalBest(this.positions, best, this.fitness[best]);
+
+        //2. Update particle best values, velocities, positions and fitness, each particle on its own stream
+        parallelFor(this.numParticles, particle -> {
+            updateIndividualBest(particle);
+            updateVelocity(particle);
+            updatePosition(particle);
+            evaluate(particle);
+        });
+
+        return this.globalBest;
+    }
+
+    /**
+     * Iteration with a local topology, each particle is guided by its neighbourhood's best.
+     * Last generation's personal bests become the previous buffer, which the pass only reads.
+     */
+    private Particle executeLocal(){
+        swapBestBuffers();
+
+        //1. Update particle best values, velocities, positions and fitness, each particle on its own stream
+        parallelFor(this.numParticles, particle -> {
+            updateIndividualBest(particle);
+            updateVelocity(particle);
+            updatePosition(particle);
+            evaluate(particle);
+        });
+
+        //2. The report needs the swarm's best, a serial scan of one int per particle
+        int best = 0;
+        for(int particle = 1; particle < this.numParticles; particle++){
+            if(this.bestFitness[particle] > this.bestFitness[best])
+                best = particle;
+        }
+        boolean improved = this.bestFitness[best] > this.globalBestValue;
+        if(improved)
+            updateGlobalBest(this.bestPositions, best, this.bestFitness[best]);
+
+        //3. Random neighbourhoods are redrawn whenever the swarm stops improving
+        if(!improved && this.randomTopology)
+            drawRandomNeighbours();
+
+        return this.globalBest;
+    }
+
+    /**
+     * Intiialize the particle swarm with random valid positions and zero velocities.
+     */
+    private void initializeSwarm(){
+        parallelFor(this.numParticles, particle -> {
+            Particle initial = new Particle().withRandomPositions().withFitnessCalculated();
+            initial.storePosition(this.positions, particle * WORDS);
+            this.fitness[particle] = initial.getFitness();
+        });
+    }
+
+    ///////////////////////////
+    ////    Topologies     ////
+    ///////////////////////////
+
+    /**
+     * Number of neighbours per particle, including itself.
+     * @param topology - one of ["global", "ring", "von_neumann", "random"].
+     */
+    private static int neighbourhoodSize(String topology){
+        switch(topology){
+            case "global":
+                return 0;
+            case "ring":
+                return 3;
+            case "von_neumann":
+                return 5;
+            case "random":
+                return RANDOM_INFORMANTS + 1;
+            default:
+                throw new RuntimeException("Unknown topology");
+        }
+    }
+
+    /**
+     * Precompute the neighbour indices of every particle.
+     * Ring: the particles either side. Von Neumann: the four neighbours on a toroidal grid
+     * ceil(sqrt(n)) columns wide, filled row by row. If the last row is partial, its row and
+     * the columns it leaves out wrap around the particles that exist.
+     * Random: drawn by drawRandomNeighbours.
+     */
+    private void initializeNeighbours(String topology){
+        int n = this.numParticles;
+        int columns = (int)Math.ceil(Math.sqrt(n));
+        int rows = (n + columns - 1) / columns;
+        for(int particle = 0; particle < n; particle++){
+            int row = particle * this.neighbourhoodSize;
+            switch(topology){
+                case "ring":
+                    this.neighbours[row] = particle;
+                    this.neighbours[row + 1] = (particle + n - 1) % n;
+                    this.neighbours[row + 2] = (particle + 1) % n;
+                    break;
+                case "von_neumann":
+                    int gridRow = particle / columns;
+                    int gridColumn = particle % columns;
+                    int rowLength = Math.min(columns, n - gridRow * columns);
+                    int columnHeight = gridColumn < n - (rows - 1) * columns ? rows : rows - 1;
+                    this.neighbours[row] = particle;
+                    this.neighbours[row + 1] = gridRow * columns + (gridColumn + rowLength - 1) % rowLength;
+                    this.neighbours[row + 2] = gridRow * columns + (gridColumn + 1) % rowLength;
+                    this.neighbours[row + 3] = (gridRow + columnHeight - 1) % columnHeight * columns + gridColumn;
+                    this.neighbours[row + 4] = (gridRow + 1) % columnHeight * columns + gridColumn;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if(topology.equals("random"))
+            drawRandomNeighbours();
+    }
+
+    /**
+     * Give every particle RANDOM_INFORMANTS random neighbours besides itself.
+     */
+    private void drawRandomNeighbours(){
+        RandomStream random = serialStream();
+        for(int particle = 0; particle < this.numParticles; particle++){
+            int row = particle * this.neighbourhoodSize;
+            this.neighbours[row] = particle;
+            for(int i = 1; i < this.neighbourhoodSize; i++){
+                this.neighbours[row + i] = random.nextInt(this.numParticles);
+            }
+        }
+    }
+
+    /**
+     * Index of the particle with the best previous personal best in a particle's neighbourhood.
+     * Only the neighbours' best fitness is read, ties go to the earliest neighbour.
+     * The neighbourhood is a few contiguous ints, so it is rescanned rather than cached.
+     */
+    private int neighbourhoodBest(int particle){
+        int row = particle * this.neighbourhoodSize;
+        int best = this.neighbours[row];
+        for(int i = 1; i < this.neighbourhoodSize; i++){
+            int neighbour = this.neighbours[row + i];
+            if(this.previousBestFitness[neighbour] > this.previousBestFitness[best])
+                best = neighbour;
+        }
+        return best;
+    }
+
+    ///////////////////////////
+    ////     Migration     ////
+    ///////////////////////////
+
+    /**
+     * Copies of the best personal bests, to be sent to other simulations.
+     * @param count - number of migrants.
+     * @return Particle[] - the migrants, fittest first.
+     */
+    public Particle[] emigrants(int count){
+        Particle[] migrants = new Particle[Math.min(count, this.numParticles)];
+        boolean[] taken = new boolean[this.numParticles];
+        for(int i = 0; i < migrants.length; i++){
+            int best = -1;
+            for(int particle = 0; particle < this.numParticles; particle++){
+                if(!taken[particle] && (best < 0 || this.bestFitness[particle] > this.bestFitness[best]))
+                    best = particle;
+            }
+            taken[best] = true;
+            migrants[i] = new Particle(Arrays.copyOfRange(this.bestPositions, best * WORDS, (best + 1) * WORDS), 0).withFitnessCalculated();
+        }
+        return migrants;
+    }
+
+    /**
+     * Move the particle with the worst personal best to a migrant, if the migrant is better.
+     * The migrant becomes both its position and its personal best, its velocity is kept.
+     * @param migrant - knapsack from another simulation, it is copied and left unchanged.
+     */
+    public void immigrate(Knapsack migrant){
+        int weakest = 0;
+        for(int particle = 1; particle < this.numParticles; particle++){
+            if(this.bestFitness[particle] < this.bestFitness[weakest])
+                weakest = particle;
+        }
+        if(migrant.getFitness() > this.bestFitness[weakest]){
+            migrant.getKnapsackSelection().storeWords(this.bestPositions, weakest * WORDS);
+            System.arraycopy(this.bestPositions, weakest * WORDS, this.positions, weakest * WORDS, WORDS);
+            this.bestFitness[weakest] = migrant.getFitness();
+            this.fitness[weakest] = migrant.getFitness();
+        }
+    }
+
+    ///////////////////////////
+    ////   PSO Operators   ////
+    ///////////////////////////
+
+    /**
+     * Update individual best value and position.
+     * With a local topology the new best is written over the row left from two generations ago,
+     * so the previous best is carried over when the particle has not improved.
+     */
+    private void updateIndividualBest(int particle){
+        int[] lastFitness = this.globalTopology ? this.bestFitness : this.previousBestFitness;
+        long[] lastPositions = this.globalTopology ? this.bestPositions : this.previousBestPositions;
+        int bitRow = particle * WORDS;
+        if(this.fitness[particle] > lastFitness[particle]){
+            System.arraycopy(this.positions, bitRow, this.bestPositions, bitRow, WORDS);
+            this.bestFitness[particle] = this.fitness[particle];
+        }
+        else if(lastPositions != this.bestPositions){
+            System.arraycopy(lastPositions, bitRow, this.bestPositions, bitRow, WORDS);
+            this.bestFitness[particle] = lastFitness[particle];
+        }
+    }
+
+    /**
+     * Copy a new best position into the global best.
+     * @param matrix - positions or personal bests the best row is taken from.
+     */
+    private void updateGlobalBest(long[] matrix, int particle, int value){
+        System.arraycopy(matrix, particle * WORDS, this.globalBestPosition, 0, WORDS);
+        this.globalBestValue = value;
+        this.globalBest.loadPosition(this.globalBestPosition, 0);
+        this.globalBest.updateFitness();
+    }
+
+    /**
+     * Update the velocity at each index of a particle.
+     * Vi(t + 1) = w(Vi) + (c1)(r1)[p_best(t) - xi(t)] + (c2)(r2)[g_best(t) - xi(t)]
+     * where g_best is the neighbourhood best for the local topologies.
+     * Package-private so it can be benchmarked on its own.
+     */
+    void updateVelocity(int particle){
+        RandomStream random = RandomStreams.current();
+        double w = this.config.getInertia();
+        double c1 = this.config.getC1();
+        double c2 = this.config.getC2();
+        double maximumVelocity = this.config.getMaximumVelocity();
+        double minimumVelocity = -this.config.getMinimumVelocity();
+        double[] velocities = this.velocities;
+        int row = particle * DIMENSIONS;
+        int bitRow = particle * WORDS;
+        long[] guide = this.globalTopology ? this.globalBestPosition : this.previousBestPositions;
+        int guideRow = this.globalTopology ? 0 : neighbourhoodBest(particle) * WORDS;
+
+        for(int i = 0; i < DIMENSIONS; i++){
+            int p_best = bit(this.bestPositions, bitRow, i);
+            int g_best = bit(guide, guideRow, i);
+            int Xi = bit(this.positions, bitRow, i);
+            double r1 = random.nextDouble();
+            double r2 = random.nextDouble();
+            double newVelocity = w*velocities[row + i] + c1*r1*(p_best - Xi) + c2*r2*(g_best - Xi);
+            velocities[row + i] = Math.max(minimumVelocity, Math.min(maximumVelocity, newVelocity));
+        }
+    }
+
+    /**
+     * Resample a particle's position, each item is included with probability sigmoid(velocity).
+     * The new position is assembled a word at a time.
+     * Package-private so it can be benchmarked on its own.
+     */
+    void updatePosition(int particle){
+        RandomStream random = RandomStreams.current();
+        double[] velocities = this.velocities;
+        int row = particle * DIMENSIONS;
+        int bitRow = particle * WORDS;
+
+        for(int w = 0; w < WORDS; w++){
+            long word = 0;
+            int end = Math.min(DIMENSIONS, (w + 1) << 6);
+            for(int i = w << 6; i < end; i++){
+                if(random.nextDouble() < sigmoid(velocities[row + i]))
+                    word |= 1L << i;
+            }
+            this.positions[bitRow + w] = word;
+        }
+    }
+
+    /**
+     * Calculate the fitness of a particle's position, repairing it first if the configuration enables repair.
+     * Package-private so it can be benchmarked on its own.
+     * @return int - the particle's fitness.
+     */
+    int evaluate(int particle){
+        Particle particleView = PARTICLE_VIEW.get();
+        particleView.loadPosition(this.positions, particle * WORDS);
+        if(this.config.isRepairEnabled()){
+            particleView.repairAndImprove();
+            particleView.storePosition(this.positions, particle * WORDS);
+        }
+        else{
+            particleView.updateFitness();
+        }
+        this.fitness[particle] = particleView.getFitness();
+        return this.fitness[particle];
+    }
+
+    ////////////////////////
+    //// Helper Methods ////
+    ////////////////////////
+
+    /**
+     * Make the current personal bests the previous generation, the old previous buffer is
+     * overwritten by the next pass.
+     */
+    private void swapBestBuffers(){
+        long[] positions = this.previousBestPositions;
+        this.previousBestPositions = this.bestPositions;
+        this.bestPositions = positions;
+        int[] fitness = this.previousBestFitness;
+        this.previousBestFitness = this.bestFitness;
+        this.bestFitness = fitness;
+    }
+
+    /**
+     * Read bit i of the row starting at offset in a packed bitset matrix.
+     * @return int - 1 if set, 0 otherwise.
+     */
+    private static int bit(long[] matrix, int offset, int i){
+        return (int)(matrix[offset + (i >>> 6)] >>> i) & 1;
+    }
+
+    /**
+     * Sigmoid function used to determine whether an item should be included
+     * or not given its velocity, read from SIGMOID_TABLE.
+     * @param velocity - velocity for the item.
+     * @return double - probability that the item is included.
+     */
+    private static double sigmoid(double velocity){
+        if(velocity <= -SIGMOID_LIMIT)
+            return SIGMOID_TABLE[0];
+        if(velocity >= SIGMOID_LIMIT)
+            return SIGMOID_TABLE[SIGMOID_TABLE.length - 1];
+        return SIGMOID_TABLE[(int)((velocity + SIGMOID_LIMIT) * SIGMOID_RESOLUTION + 0.5)];
+    }
+
+    private static double[] buildSigmoidTable(){
+        double[] table = new double[2 * SIGMOID_LIMIT * SIGMOID_RESOLUTION + 1];
+        for(int i = 0; i < table.length; i++){
+            double velocity = (double)i / SIGMOID_RESOLUTION - SIGMOID_LIMIT;
+            table[i] = 1 / (1 + Math.exp(-velocity));
+        }
+        return table;
+    }
+
+    /**
+     * View summary stats for a given population state.
+     * @return IntSummaryStatistics - summary statistics.
+     */
+    public IntSummaryStatistics getSummaryStats(){
+        return Arrays.stream(this.fitness).summaryStatistics();
+    }
+
+}
\ No newline at end of file
@@ -1,9 +1,4 @@
-import java.io.File;
-import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Scanner;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Config specific to Particle Swarm Optimization (PSO).
@@ -17,6 +12,7 @@ public class SwarmConfiguration extends Configuration {
     private int numParticles;
     private double c1;
     private double c2;
+    private String topology;
 
     /**
      * Constructor
@@ -33,7 +29,9 @@ public class SwarmConfiguration extends Configuration {
     public String toString(){
         return "PSO" + " | #" + Configuration.MAX_ITERATIONS + " | " + "num_particles: " + this.numParticles 
         + " | " + "Min_V: " + this.minimumVelocity + " | " + "Max_V: " + this.maximumVelocity + " | "
-        + "w: " + this.inertia + " | " + "c1: " + this.c1 + " | " + "c2: " + this.c2;
+        + "w: " + this.inertia + " | " + "c1: " + this.c1 + " | " + "c2: " + this.c2
+        + (this.topology.equals("global") ? "" : " | " + "topology: " + this.topology)
+        + (this.repair ? " | repair" : "");
     }
 
     /**
@@ -42,32 +40,15 @@ public class SwarmConfiguration extends Configuration {
      */
     @Override
     protected void loadConfig(String fileName){
-        fileName = PSO_PATH + fileName;
-        File file = new File(fileName);
-        try {
-            Scanner sc = new Scanner(file); 
-            String line = sc.nextLine();
-            List<List<String>> list = Arrays.asList(line.split(","))
-                .stream()
-                .map(s -> Arrays.asList(s.split(":"))
-                    .stream()
-                    .map(n -> n.replaceAll("[^a-zA-Z0-9_.]", ""))
-                    .collect(Collectors.toList())
-                )
-                .collect(Collectors.toList());
-
-            this.minimumVelocity = Integer.parseInt(list.get(0).get(1));
-            this.maximumVelocity = Integer.parseInt(list.get(1).get(1));
-            this.inertia = Double.parseDouble(list.get(2).get(1));
-            this.numParticles = Integer.parseInt(list.get(4).get(1));
-            this.c1 = Double.parseDouble(list.get(5).get(1));
-            this.c2 = Double.parseDouble(list.get(6).get(1));
-            sc.close();
-        } 
-        catch(IOException e) {
-            e.printStackTrace();
-            System.exit(1);
-        }
+        Map<String, String> json = readJson(PSO_PATH + fileName);
+        this.minimumVelocity = Integer.parseInt(json.get("minimum_velocity"));
+        this.maximumVelocity = Integer.parseInt(json.get("maximum_velocity"));
+        this.inertia = Double.parseDouble(json.get("inertia"));
+        this.numParticles = Integer.parseInt(json.get("number_particles"));
+        this.c1 = Double.parseDouble(json.get("c1"));
+        this.c2 = Double.parseDouble(json.get("c2"));
+        this.topology = json.getOrDefault("topology", "global");
+        this.repair = Boolean.parseBoolean(json.getOrDefault("repair", "false"));
     }
 
     public int getMinimumVelocity() {
@@ -94,6 +75,14 @@ public class SwarmConfiguration extends Configuration {
         return this.c2;
     }
     
+    /**
+     * Neighbourhood topology, set by the optional "topology" key.
+     * @return String - one of ["global", "ring", "von_neumann", "random"], global by default.
+     */
+    public String getTopology() {
+        return this.topology;
+    }
+
     public int getNumConfigurations(){
         return SwarmConfiguration.NUM_CONFIGURATIONS;
     }